@@ -23,6 +23,39 @@ public class EnvConfiguration {
     private String cloudinaryApiSecret;
     private String defaultUserProfileImage;
     private String appEmail;
+    private boolean statelessAuthentication;
+    private String jwtSigningKeys;
+    private String jwtActiveSigningKeyId;
+    private int passwordHashingStrength = 10;
+    private int passwordHashingQueueCapacity = 64;
+    private long passwordHashingTimeout = 5000;
+    private boolean rateLimitEnabled = true;
+    private String rateLimitStore = "mongo";
+    private long rateLimitSyncInterval = 250;
+    private int emailOutboxWorkers = 2;
+    private int emailOutboxBatchSize = 20;
+    private long emailOutboxPollInterval = 1000;
+    private int emailOutboxMaxAttempts = 8;
+    private long emailOutboxRetryBackoff = 30000;
+    private int emailOutboxMaxSendRate = 20;
+    private String bookingReminderCron = "0 0 8 * * *";
+    private int bookingReminderLeadDays = 1;
+    private String adminDigestCron = "0 0 7 * * *";
+    private int notificationBatchSize = 500;
+    private int imageUploadConcurrency = 4;
+    private long imageUploadTimeout = 30000;
+    private String imageUploadSpoolDirectory;
+    private String imageStorage = "cloudinary";
+    private String imageStorageDirectory = "images";
+    private String imageStoragePublicUrl = "";
+    private int imageVariantWorkers = 2;
+    private int imageVariantQueueCapacity = 32;
+    private long imageVariantTimeout = 30000;
+    private int hotelListPictureWidth = 480;
+    private long imageMaxSize = 5242880;
+    private int imageMaxDimension = 8000;
+    private long virtualThreadPinningThreshold = 20;
+    private long hotelSearchCacheMaxAge = 60;
 
     public Map<String, String> getCloudinaryConfig() {
         return Map.of(
@@ -0,0 +1,66 @@
+package com.akkorhotel.hotel.configuration;
+
+import com.akkorhotel.hotel.model.Booking;
+import com.akkorhotel.hotel.model.Hotel;
+import com.akkorhotel.hotel.model.HotelLocation;
+import com.akkorhotel.hotel.model.HotelRoom;
+import com.akkorhotel.hotel.model.User;
+import com.akkorhotel.hotel.model.response.AdminGetBookingsResponse;
+import com.akkorhotel.hotel.model.response.GetAllHotelsHotelResponse;
+import com.akkorhotel.hotel.model.response.GetAllHotelsResponse;
+import com.akkorhotel.hotel.model.response.GetAllUsersResponse;
+import com.akkorhotel.hotel.model.response.GetAuthenticatedUserResponse;
+import com.akkorhotel.hotel.model.response.GetBookingResponse;
+import com.akkorhotel.hotel.model.response.GetBookingsResponse;
+import com.akkorhotel.hotel.model.response.GetHotelResponse;
+import com.akkorhotel.hotel.model.response.GetUserByIdResponse;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+public class JacksonConfiguration {
+
+    private static final List<Class<?>> SERIALIZED_TYPES = List.of(
+            Hotel.class,
+            HotelLocation.class,
+            HotelRoom.class,
+            Booking.class,
+            User.class,
+            GetHotelResponse.class,
+            GetAllHotelsResponse.class,
+            GetAllHotelsHotelResponse.class,
+            GetBookingResponse.class,
+            GetBookingsResponse.class,
+            AdminGetBookingsResponse.class,
+            GetAllUsersResponse.class,
+            GetUserByIdResponse.class,
+            GetAuthenticatedUserResponse.class
+    );
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer objectMapperFeatures() {
+        return builder -> builder.featuresToDisable(
+                SerializationFeature.FLUSH_AFTER_WRITE_VALUE,
+                MapperFeature.USE_GETTERS_AS_SETTERS
+        );
+    }
+
+    @Bean
+    public ApplicationRunner objectMapperWarmUp(ObjectMapper objectMapper) {
+        return arguments -> {
+            long start = System.nanoTime();
+            long warmedTypes = SERIALIZED_TYPES.stream().filter(objectMapper::canSerialize).count();
+            log.info("Jackson serializers warmed for {} types in {} ms", warmedTypes, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+}
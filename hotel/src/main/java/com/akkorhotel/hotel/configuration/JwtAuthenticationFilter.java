@@ -2,7 +2,11 @@ package com.akkorhotel.hotel.configuration;
 
 import com.akkorhotel.hotel.dao.UserDao;
 import com.akkorhotel.hotel.model.User;
+import com.akkorhotel.hotel.model.UserRole;
 import com.akkorhotel.hotel.service.JwtTokenService;
+import com.akkorhotel.hotel.service.TokenRevocationService;
+import com.akkorhotel.hotel.service.UserTokenVersionService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +32,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
     private final UserDao userDao;
+    private final UserTokenVersionService userTokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final EnvConfiguration envConfiguration;
 
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request,
@@ -49,12 +56,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private Authentication getUserInformations(HttpServletRequest request) {
-        String userId = jwtTokenService.resolveUserIdFromRequest(request);
-        if (Objects.isNull(userId)) {
+        Claims claims = jwtTokenService.resolveClaimsFromRequest(request);
+        if (Objects.isNull(claims) || !jwtTokenService.isAccessToken(claims)) {
             return null;
         }
 
-        Optional<User> optionalUser = userDao.findById(userId);
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            return null;
+        }
+
+        String userId = claims.getSubject();
+        if (!userTokenVersionService.isTokenVersionValid(userId, jwtTokenService.resolveTokenVersion(claims))) {
+            return null;
+        }
+
+        UserRole role = jwtTokenService.resolveRole(claims);
+        if (envConfiguration.isStatelessAuthentication() && !Objects.isNull(role)) {
+            return buildStatelessAuthentication(userId, role);
+        }
+
+        Optional<User> optionalUser = userDao.findAuthenticatedUserById(userId);
 
         return optionalUser.map(this::buildAuthentication).orElse(null);
     }
@@ -64,6 +85,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return new UsernamePasswordAuthenticationToken(user, null, authorities);
     }
 
+    private Authentication buildStatelessAuthentication(String userId, UserRole role) {
+        List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role.toString()));
+        return new StatelessAuthenticationToken(userId, authorities, id -> userDao.findAuthenticatedUserById(id).orElse(null));
+    }
+
     private boolean isNotPrivateRoute(String uri) {
         return !uri.startsWith("/private");
     }
@@ -0,0 +1,91 @@
+package com.akkorhotel.hotel.configuration;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasText;
+
+@Slf4j
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final int MINIMUM_KEY_LENGTH = 64;
+
+    private final Map<String, Key> signingKeys;
+    private final String activeKeyId;
+
+    public JwtKeyRing(EnvConfiguration envConfiguration) {
+        Map<String, Key> keys = parseSigningKeys(envConfiguration.getJwtSigningKeys());
+
+        if (keys.isEmpty()) {
+            String ephemeralKeyId = "ephemeral-" + UUID.randomUUID();
+            keys.put(ephemeralKeyId, Keys.secretKeyFor(SignatureAlgorithm.HS512));
+            log.warn("⚠️ No JWT signing keys configured, using ephemeral key: {}", ephemeralKeyId);
+        }
+
+        String configuredActiveKeyId = envConfiguration.getJwtActiveSigningKeyId();
+        this.activeKeyId = hasText(configuredActiveKeyId) ? configuredActiveKeyId : keys.keySet().iterator().next();
+
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active JWT signing key is not part of the key ring: " + activeKeyId);
+        }
+
+        this.signingKeys = Collections.unmodifiableMap(keys);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getActiveKey() {
+        return signingKeys.get(activeKeyId);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        Key key = isNull(header.getKeyId()) ? null : signingKeys.get(header.getKeyId());
+        if (isNull(key)) {
+            throw new SignatureException("Unknown JWT signing key: " + header.getKeyId());
+        }
+
+        return key;
+    }
+
+    private static Map<String, Key> parseSigningKeys(String signingKeys) {
+        Map<String, Key> keys = new LinkedHashMap<>();
+        if (!hasText(signingKeys)) {
+            return keys;
+        }
+
+        for (String entry : signingKeys.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || !hasText(parts[0]) || !hasText(parts[1])) {
+                throw new IllegalStateException("JWT signing keys must be formatted as kid:base64Secret");
+            }
+
+            byte[] secret = Decoders.BASE64.decode(parts[1].trim());
+            if (secret.length < MINIMUM_KEY_LENGTH) {
+                throw new IllegalStateException("JWT signing key " + parts[0].trim() + " must be at least 512 bits long");
+            }
+
+            keys.put(parts[0].trim(), Keys.hmacShaKeyFor(secret));
+        }
+
+        return keys;
+    }
+
+}
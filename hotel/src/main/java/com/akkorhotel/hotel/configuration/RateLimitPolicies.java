@@ -0,0 +1,63 @@
+package com.akkorhotel.hotel.configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class RateLimitPolicies {
+
+    public static final RateLimitPolicy DEFAULT_POLICY = RateLimitPolicy.builder()
+            .name("default")
+            .pathPattern("/**")
+            .capacity(60)
+            .cost(1)
+            .build();
+
+    private static final List<RateLimitPolicy> POLICIES = List.of(
+            policy("authentication", HttpMethod.POST, "/auth/**", 30, 3),
+            policy("hotel-upload", HttpMethod.POST, "/private/admin/hotel", 60, 10),
+            policy("hotel-picture-upload", HttpMethod.POST, "/private/admin/hotel/*/picture", 60, 10),
+            policy("profile-image-upload", HttpMethod.POST, "/private/user/profile-image", 60, 10),
+            policy("user-search", HttpMethod.GET, "/private/admin/users", 60, 3),
+            policy("hotel-search", HttpMethod.POST, "/hotel", 30, 3),
+            policy("hotel-search", HttpMethod.GET, "/hotel/search", 30, 3),
+            policy("hotel-read", HttpMethod.GET, "/hotel/**", 300, 1),
+            policy("image-read", HttpMethod.GET, "/image/*", 600, 1),
+            DEFAULT_POLICY
+    );
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitPolicy resolve(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if (isNull(method) || isNull(uri)) {
+            return DEFAULT_POLICY;
+        }
+
+        for (RateLimitPolicy policy : POLICIES) {
+            if ((isNull(policy.getMethod()) || policy.getMethod().matches(method)) && pathMatcher.match(policy.getPathPattern(), uri)) {
+                return policy;
+            }
+        }
+
+        return DEFAULT_POLICY;
+    }
+
+    private static RateLimitPolicy policy(String name, HttpMethod method, String pathPattern, int capacity, int cost) {
+        return RateLimitPolicy.builder()
+                .name(name)
+                .method(method)
+                .pathPattern(pathPattern)
+                .capacity(capacity)
+                .cost(cost)
+                .build();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.akkorhotel.hotel.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+@Getter
+@Builder
+public class RateLimitPolicy {
+
+    private final String name;
+    private final HttpMethod method;
+    private final String pathPattern;
+    private final int capacity;
+    private final int cost;
+
+}
@@ -1,6 +1,8 @@
 package com.akkorhotel.hotel.configuration;
 
+import com.akkorhotel.hotel.service.JwtTokenService;
 import com.akkorhotel.hotel.service.RateLimitingService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -16,24 +17,24 @@ import java.io.IOException;
 
 @Component
 @RequiredArgsConstructor
-@EnableScheduling
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitingService rateLimitingService;
+    private final RateLimitPolicies rateLimitPolicies;
+    private final JwtTokenService jwtTokenService;
+    private final EnvConfiguration envConfiguration;
 
+    @Override
+    protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
+        return !envConfiguration.isRateLimitEnabled();
+    }
 
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain)
             throws ServletException, IOException {
-        String ipAddress = getClientIP(request);
-
-        if (rateLimitingService.isIpBlocked(ipAddress)) {
-            rejectRequest(response);
-            return;
-        }
+        RateLimitPolicy policy = rateLimitPolicies.resolve(request);
 
-        if (rateLimitingService.incrementAndCheckLimit(ipAddress)) {
-            rateLimitingService.blockIpAddress(ipAddress);
+        if (!rateLimitingService.tryConsume(policy, resolvePrincipal(request))) {
             rejectRequest(response);
             return;
         }
@@ -46,6 +47,15 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         response.getWriter().write("Too many requests. Please try again later.");
     }
 
+    private String resolvePrincipal(HttpServletRequest request) {
+        Claims claims = jwtTokenService.resolveClaimsFromRequest(request);
+        if (claims != null && jwtTokenService.isAccessToken(claims)) {
+            return "user:" + claims.getSubject();
+        }
+
+        return "ip:" + getClientIP(request);
+    }
+
     private String getClientIP(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         if (xfHeader == null) {
@@ -69,7 +69,7 @@ public class SecurityConfiguration {
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(envConfiguration.getPasswordHashingStrength());
     }
 
     @Bean
@@ -0,0 +1,45 @@
+package com.akkorhotel.hotel.configuration;
+
+import com.akkorhotel.hotel.model.User;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.function.Function;
+
+public final class StatelessAuthenticationToken extends AbstractAuthenticationToken {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String userId;
+    private final transient Function<String, User> userLoader;
+    private transient User user;
+
+    public StatelessAuthenticationToken(String userId, Collection<? extends GrantedAuthority> authorities, Function<String, User> userLoader) {
+        super(authorities);
+        this.userId = userId;
+        this.userLoader = userLoader;
+        super.setAuthenticated(true);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        if (user == null) {
+            user = userLoader.apply(userId);
+        }
+        return user;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+
+}
@@ -428,6 +428,7 @@ public class AdminController {
         - The location fields (city, address, country, state, postal code, Google Maps URL) are **mandatory**.
         - Amenities must be from a **predefined list**.
         - At least **one valid image** must be uploaded.
+        - Pictures are uploaded in parallel. Pictures that are rejected or fail to upload are listed in `errors`; the hotel is created with the others.
         """,
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
@@ -437,14 +438,25 @@ public class AdminController {
                     description = "Hotel created successfully",
                     content = @Content(
                             mediaType = "application/json",
-                            examples = @ExampleObject(
-                                    name = "Successful Hotel Creation",
-                                    value = """
-                                {
-                                    "message": "Hotel created successfully"
-                                }
-                                """
-                            )
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Successful Hotel Creation",
+                                            value = """
+                                        {
+                                            "message": "Hotel created successfully"
+                                        }
+                                        """
+                                    ),
+                                    @ExampleObject(
+                                            name = "Hotel Created With Picture Failures",
+                                            value = """
+                                        {
+                                            "message": "Hotel created successfully",
+                                            "errors": "Unsupported picture format: photo.gif | Failed to upload picture: lobby.jpg"
+                                        }
+                                        """
+                                    )
+                            }
                     )
             ),
             @ApiResponse(
@@ -4,6 +4,7 @@ import com.akkorhotel.hotel.model.User;
 import com.akkorhotel.hotel.model.request.ConfirmEmailRequest;
 import com.akkorhotel.hotel.model.request.CreateUserRequest;
 import com.akkorhotel.hotel.model.request.LoginRequest;
+import com.akkorhotel.hotel.model.request.RefreshTokenRequest;
 import com.akkorhotel.hotel.model.request.ResendConfirmationEmailRequest;
 import com.akkorhotel.hotel.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -201,18 +203,23 @@ public class AuthenticationController {
             summary = "User login",
             description = """
     Authenticates a user using their email and password.
-    Returns an access token upon successful login. The email must be validated to access the account.
+    Returns a short-lived access token and a refresh token upon successful login. The email must be validated to access the account.
     """
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
-                    description = "Successful authentication, access token returned",
+                    description = "Successful authentication, access and refresh tokens returned",
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(
                                     name = "Access Token Example",
-                                    value = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                                    value = """
+                {
+                    "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+                    "refreshToken": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                }
+            """
                             )
                     )
             ),
@@ -328,6 +335,147 @@ public class AuthenticationController {
         return authenticationService.login(loginRequest);
     }
 
+    @PostMapping("/refresh")
+    @Operation(
+            tags = {"Authentication"},
+            summary = "Refresh access token",
+            description = """
+    Exchanges a valid refresh token for a new access token and a new refresh token.
+    The submitted refresh token is revoked; reusing it revokes every token of the user.
+    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tokens successfully refreshed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Refresh Success Example",
+                                    value = """
+                {
+                    "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+                    "refreshToken": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                }
+            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Invalid, expired or revoked refresh token",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Invalid Refresh Token Example",
+                                    value = """
+                {
+                    "status": 401,
+                    "error": "Unauthorized",
+                    "message": "Invalid or expired refresh token"
+                }
+            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "User not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "User Not Found Example",
+                                    value = """
+                {
+                    "status": 404,
+                    "error": "Not Found",
+                    "message": "User not found"
+                }
+            """
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<Map<String, String>> refreshToken(
+            @RequestBody(
+                    description = "Request body containing the refresh token.",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    name = "Refresh Token Request Example",
+                                    value = """
+                            {
+                                "refreshToken": "eyTOKEN"
+                            }
+                            """
+                            )
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody RefreshTokenRequest request) {
+        return authenticationService.refreshToken(request.getRefreshToken());
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+            tags = {"Authentication"},
+            summary = "User logout",
+            description = """
+    Revokes the provided refresh token and, when present in the Authorization header, the current access token.
+    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully logged out",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Logout Success Example",
+                                    value = """
+                {
+                    "status": 200,
+                    "message": "Successfully logged out"
+                }
+            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Invalid or expired refresh token",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Invalid Refresh Token Example",
+                                    value = """
+                {
+                    "status": 401,
+                    "error": "Unauthorized",
+                    "message": "Invalid or expired refresh token"
+                }
+            """
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestBody(
+                    description = "Request body containing the refresh token.",
+                    content = @Content(
+                            examples = @ExampleObject(
+                                    name = "Logout Request Example",
+                                    value = """
+                            {
+                                "refreshToken": "eyTOKEN"
+                            }
+                            """
+                            )
+                    )
+            )
+            @org.springframework.web.bind.annotation.RequestBody RefreshTokenRequest request,
+            HttpServletRequest httpServletRequest) {
+        return authenticationService.logout(request.getRefreshToken(), httpServletRequest);
+    }
+
     @PostMapping("/confirm-email")
     @Operation(
             tags = {"Authentication"},
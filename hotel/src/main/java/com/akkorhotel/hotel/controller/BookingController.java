@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -193,6 +194,7 @@ public class BookingController {
             - Only the owner of the booking can access the booking details.
             - Returns 404 if the booking does not exist.
             - Returns 403 if the authenticated user does not own the booking.
+            - Responses carry an `ETag` and `Last-Modified` header; a matching `If-None-Match` returns 304 without a body.
             """,
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
@@ -275,9 +277,10 @@ public class BookingController {
     })
     public ResponseEntity<Map<String, GetBookingResponse>> getBooking(
             @AuthenticationPrincipal User authenticatedUser,
-            @PathVariable String bookingId
+            @PathVariable String bookingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return bookingService.getBooking(authenticatedUser.getId(), bookingId);
+        return bookingService.getBooking(authenticatedUser.getId(), bookingId, ifNoneMatch);
     }
 
     @PutMapping
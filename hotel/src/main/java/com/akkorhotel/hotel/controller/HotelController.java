@@ -1,17 +1,21 @@
 package com.akkorhotel.hotel.controller;
 
+import com.akkorhotel.hotel.model.request.GetHotelsFilters;
 import com.akkorhotel.hotel.model.request.GetHotelsRequest;
 import com.akkorhotel.hotel.model.response.GetAllHotelsResponse;
-import com.akkorhotel.hotel.model.response.GetHotelResponse;
 import com.akkorhotel.hotel.service.HotelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -32,6 +36,7 @@ public class HotelController {
             ## Notes:
             - The hotel must already exist.
             - If the hotel does not exist, an error message is returned.
+            - Responses carry an `ETag` and `Last-Modified` header; a matching `If-None-Match` returns 304 without a body.
             """
     )
     @ApiResponses({
@@ -95,10 +100,11 @@ public class HotelController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetHotelResponse>> getHotel(
-            @PathVariable String hotelId
+    public Mono<ResponseEntity<byte[]>> getHotel(
+            @PathVariable String hotelId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return hotelService.getHotel(hotelId);
+        return hotelService.getHotel(hotelId, ifNoneMatch);
     }
 
     @PostMapping
@@ -301,10 +307,46 @@ public class HotelController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetAllHotelsResponse>> getHotels(
+    public Mono<ResponseEntity<Map<String, GetAllHotelsResponse>>> getHotels(
             @RequestBody GetHotelsRequest request
     ) {
         return hotelService.getHotels(request);
     }
 
+    @GetMapping("/search")
+    @Operation(
+            tags = {"Hotel"},
+            summary = "Search hotels with cacheable query parameters",
+            description = """
+        Same search as `POST /hotel`, expressed as query parameters so shared caches and CDNs can store the result.
+
+        ## Notes:
+        - Parameters use the names of the `POST /hotel` body: `page`, `pageSize`, `filter` and every field of `filters` (`city`, `guests`, `hotelAmenities`, ...).
+        - Parameters must be in canonical form: sorted by name, default values omitted and `hotelAmenities` repeated in alphabetical order.
+        - Any other form is answered with a 301 redirect to the canonical URL.
+        - Successful responses are public, cacheable for a configured max-age and vary on `Accept-Encoding`.
+    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully, same body as `POST /hotel`"),
+            @ApiResponse(responseCode = "301", description = "Query parameters were not in canonical form"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters, same body as `POST /hotel`")
+    })
+    public Mono<ResponseEntity<Map<String, GetAllHotelsResponse>>> searchHotels(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int pageSize,
+            @RequestParam(required = false) String filter,
+            @ParameterObject GetHotelsFilters filters,
+            HttpServletRequest servletRequest
+    ) {
+        GetHotelsRequest request = GetHotelsRequest.builder()
+                .page(page)
+                .pageSize(pageSize)
+                .filter(filter)
+                .filters(filters)
+                .build();
+
+        return hotelService.searchHotels(request, servletRequest.getQueryString());
+    }
+
 }
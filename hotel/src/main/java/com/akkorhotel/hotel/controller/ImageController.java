@@ -0,0 +1,49 @@
+package com.akkorhotel.hotel.controller;
+
+import com.akkorhotel.hotel.service.ImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/image")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageService imageService;
+
+    @GetMapping("/{name}")
+    @Operation(
+            tags = {"Image"},
+            summary = "Download a stored image",
+            description = """
+            Serves an image stored by the local image storage backend.
+            
+            ## Notes:
+            - Only available when `IMAGE_STORAGE` is set to `local`; images stored on Cloudinary are served by Cloudinary.
+            - Responses carry an `ETag` and `Last-Modified` header and honor `If-None-Match` / `If-Modified-Since`.
+            - A single byte range can be requested with the `Range` header (optionally guarded by `If-Range`).
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Image content", content = @Content(mediaType = "image/*")),
+            @ApiResponse(responseCode = "206", description = "Requested range of the image content", content = @Content(mediaType = "image/*")),
+            @ApiResponse(responseCode = "304", description = "Image not modified", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Image not found", content = @Content),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable", content = @Content)
+    })
+    public void getImage(@PathVariable String name, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageService.serveStoredImage(name, request, response);
+    }
+
+}
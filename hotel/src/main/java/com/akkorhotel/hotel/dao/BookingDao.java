@@ -1,14 +1,22 @@
 package com.akkorhotel.hotel.dao;
 
 import com.akkorhotel.hotel.model.Booking;
+import com.akkorhotel.hotel.model.BookingStatus;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
 
 @Component
 @RequiredArgsConstructor
@@ -18,7 +26,15 @@ public class BookingDao {
 
     private static final String BOOKING_COLLECTION = "BOOKING";
 
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(BOOKING_COLLECTION)
+                .ensureIndex(new Index().on("checkInDate", Sort.Direction.ASC).on("_id", Sort.Direction.ASC));
+    }
+
     public void save(Booking booking) {
+        booking.setVersion(booking.getVersion() + 1);
+        booking.setLastModified(new Date());
         mongoTemplate.save(booking, BOOKING_COLLECTION);
     }
 
@@ -38,4 +54,18 @@ public class BookingDao {
         return mongoTemplate.find(new Query(Criteria.where("hotel._id").is(hotelId)), Booking.class, BOOKING_COLLECTION);
     }
 
+    public Stream<Booking> streamActiveBookingsCheckingInBetween(Date from, Date to, String afterBookingId, int batchSize) {
+        Criteria criteria = Criteria.where("checkInDate").gte(from).lt(to)
+                .and("status").ne(BookingStatus.CANCELED);
+        if (!isNull(afterBookingId)) {
+            criteria.and("_id").gt(afterBookingId);
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(batchSize);
+
+        return mongoTemplate.stream(query, Booking.class, BOOKING_COLLECTION);
+    }
+
 }
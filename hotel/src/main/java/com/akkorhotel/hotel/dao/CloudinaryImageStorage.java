@@ -0,0 +1,80 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.model.StoredImage;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.util.StringUtils.hasText;
+
+@Component
+@ConditionalOnProperty(name = "akkorhotel.properties.image-storage", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryImageStorage implements ImageStorage {
+
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final Pattern PUBLIC_ID_PATTERN = Pattern.compile("/upload/(?:v\\d+/)?(.+?)(?:\\.\\w+)?$");
+
+    private final Cloudinary cloudinary;
+    private final Path spoolDirectory;
+
+    @Autowired
+    public CloudinaryImageStorage(EnvConfiguration envConfiguration) {
+        this(new Cloudinary(envConfiguration.getCloudinaryConfig()), envConfiguration);
+    }
+
+    CloudinaryImageStorage(Cloudinary cloudinary, EnvConfiguration envConfiguration) {
+        this.cloudinary = cloudinary;
+        this.spoolDirectory = Path.of(hasText(envConfiguration.getImageUploadSpoolDirectory())
+                ? envConfiguration.getImageUploadSpoolDirectory()
+                : System.getProperty("java.io.tmpdir"));
+    }
+
+    @Override
+    public String store(ReadableByteChannel content, String filename) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path spooledFile = Files.createTempFile(spoolDirectory, "image-upload-", ".tmp");
+
+        try {
+            try (FileChannel spool = FileChannel.open(spooledFile, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = spool.transferFrom(content, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            Map uploadResult = cloudinary.uploader().upload(spooledFile.toFile(), ObjectUtils.emptyMap());
+            return (String) uploadResult.get("secure_url");
+        } finally {
+            Files.deleteIfExists(spooledFile);
+        }
+    }
+
+    @Override
+    public Optional<StoredImage> find(String name) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void delete(String url) throws IOException {
+        Matcher matcher = PUBLIC_ID_PATTERN.matcher(String.valueOf(url));
+        if (matcher.find()) {
+            cloudinary.uploader().destroy(matcher.group(1), ObjectUtils.emptyMap());
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.model.DispatchCheckpoint;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class DispatchCheckpointDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String DISPATCH_CHECKPOINT_COLLECTION = "DISPATCH_CHECKPOINTS";
+
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(DISPATCH_CHECKPOINT_COLLECTION)
+                .ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+    }
+
+    public Optional<DispatchCheckpoint> claim(String checkpointId, String owner, Date now, Date leaseExpiresAt, Date expiresAt) {
+        Query query = new Query(Criteria.where("_id").is(checkpointId)
+                .and("completed").ne(true)
+                .orOperator(
+                        Criteria.where("leaseExpiresAt").is(null),
+                        Criteria.where("leaseExpiresAt").lte(now),
+                        Criteria.where("owner").is(owner)));
+
+        Update update = new Update()
+                .set("owner", owner)
+                .set("leaseExpiresAt", leaseExpiresAt)
+                .set("updatedAt", now)
+                .set("expiresAt", expiresAt);
+
+        try {
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), DispatchCheckpoint.class, DISPATCH_CHECKPOINT_COLLECTION));
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean saveProgress(DispatchCheckpoint checkpoint) {
+        Query query = new Query(Criteria.where("_id").is(checkpoint.getId()).and("owner").is(checkpoint.getOwner()));
+
+        Update update = new Update()
+                .set("lastBookingId", checkpoint.getLastBookingId())
+                .set("completed", checkpoint.isCompleted())
+                .set("leaseExpiresAt", checkpoint.getLeaseExpiresAt())
+                .set("updatedAt", checkpoint.getUpdatedAt())
+                .set("expiresAt", checkpoint.getExpiresAt());
+
+        return mongoTemplate.updateFirst(query, update, DISPATCH_CHECKPOINT_COLLECTION).getMatchedCount() > 0;
+    }
+
+}
@@ -8,12 +8,16 @@ import com.akkorhotel.hotel.model.request.GetHotelsRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,10 +26,13 @@ import java.util.Optional;
 public class HotelDao {
 
     private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
 
     private static final String HOTEL_COLLECTION = "HOTELS";
 
     public void save(Hotel hotel) {
+        hotel.setVersion(hotel.getVersion() + 1);
+        hotel.setLastModified(new Date());
         mongoTemplate.save(hotel, HOTEL_COLLECTION);
     }
 
@@ -59,61 +66,47 @@ public class HotelDao {
         );
     }
 
-    public long countHotelsWithRequest(GetHotelsFilters filters) {
-        Criteria criteria = new Criteria();
+    public Mono<Hotel> findByIdReactive(String hotelId) {
+        return reactiveMongoTemplate.findById(hotelId, Hotel.class, HOTEL_COLLECTION);
+    }
 
-        List<Integer> selectedStars = new ArrayList<>();
-        if (filters.isOneStar()) selectedStars.add(1);
-        if (filters.isTwoStars()) selectedStars.add(2);
-        if (filters.isThreeStars()) selectedStars.add(3);
-        if (filters.isFourStars()) selectedStars.add(4);
-        if (filters.isFiveStars()) selectedStars.add(5);
+    public Mono<Hotel> findVersionByIdReactive(String hotelId) {
+        Query query = new Query(Criteria.where("_id").is(hotelId));
+        query.fields().include("version", "lastModified");
 
-        if (!selectedStars.isEmpty()) {
-            criteria = criteria.and("stars").in(selectedStars);
-        }
+        return reactiveMongoTemplate.findOne(query, Hotel.class, HOTEL_COLLECTION);
+    }
 
-        if (filters.getHotelAmenities() != null && !filters.getHotelAmenities().isEmpty()) {
-            criteria = criteria.and("amenities").all(filters.getHotelAmenities());
-        }
+    public Mono<Long> countHotelsWithRequest(GetHotelsFilters filters) {
+        Query query = buildFiltersQuery(filters);
 
-        if (filters.getCity() != null && !filters.getCity().trim().isEmpty()) {
-            criteria = criteria.and("location.city").is(filters.getCity());
-        }
+        return reactiveMongoTemplate.find(query, Hotel.class, HOTEL_COLLECTION)
+                .filter(hotel -> hasRoomsFor(hotel, filters))
+                .count();
+    }
 
-        if (filters.getMinPrice() > 0 && filters.getMaxPrice() > 0 && filters.getMinPrice() < filters.getMaxPrice()) {
-            criteria = criteria.and("rooms.price").gte(filters.getMinPrice()).lte(filters.getMaxPrice());
+    public Flux<Hotel> searchHotelsByRequest(GetHotelsRequest request) {
+        GetHotelsFilters filters = request.getFilters();
+        Query query = buildFiltersQuery(filters);
+
+        if (request.getFilter() != null) {
+            if (request.getFilter().equals(GetHotelsFilter.PRICE_LOW_TO_HIGH.name())) {
+                query.with(Sort.by(Sort.Direction.ASC, "rooms.price"));
+            } else if (request.getFilter().equals(GetHotelsFilter.PRICE_HIGH_TO_LOW.name())) {
+                query.with(Sort.by(Sort.Direction.DESC, "rooms.price"));
+            }
         }
 
-        Query query = new Query();
-        if (!criteria.equals(new Criteria())) {
-            query.addCriteria(criteria);
+        if (request.getPage() >= 0 && request.getPageSize() > 0) {
+            query.skip((long) request.getPage() * request.getPageSize()).limit(request.getPageSize());
         }
 
-        List<Hotel> hotels = mongoTemplate.find(query, Hotel.class, HOTEL_COLLECTION);
-
-        return hotels.stream()
-                .filter(hotel -> {
-                    boolean hasEnoughRooms = filters.getBedrooms() <= 0 || hotel.getRooms().size() >= filters.getBedrooms();
-                    boolean hasEnoughCapacity = true;
-                    if (filters.getGuests() > 0) {
-                        List<HotelRoom> roomsWithMaxOccupancy = hotel.getRooms().stream()
-                                .sorted((r1, r2) -> Integer.compare(r2.getMaxOccupancy(), r1.getMaxOccupancy()))
-                                .limit(filters.getBedrooms())
-                                .toList();
-                        int totalCapacity = roomsWithMaxOccupancy.stream()
-                                .mapToInt(HotelRoom::getMaxOccupancy)
-                                .sum();
-                        hasEnoughCapacity = totalCapacity >= filters.getGuests();
-                    }
-                    return hasEnoughRooms && hasEnoughCapacity;
-                })
-                .count();
+        return reactiveMongoTemplate.find(query, Hotel.class, HOTEL_COLLECTION)
+                .filter(hotel -> hasRoomsFor(hotel, filters));
     }
 
-    public List<Hotel> searchHotelsByRequest(GetHotelsRequest request) {
+    private Query buildFiltersQuery(GetHotelsFilters filters) {
         Criteria criteria = new Criteria();
-        GetHotelsFilters filters = request.getFilters();
 
         List<Integer> selectedStars = new ArrayList<>();
         if (filters.isOneStar()) selectedStars.add(1);
@@ -143,37 +136,23 @@ public class HotelDao {
             query.addCriteria(criteria);
         }
 
-        if (request.getFilter() != null) {
-            if (request.getFilter().equals(GetHotelsFilter.PRICE_LOW_TO_HIGH.name())) {
-                query.with(Sort.by(Sort.Direction.ASC, "rooms.price"));
-            } else if (request.getFilter().equals(GetHotelsFilter.PRICE_HIGH_TO_LOW.name())) {
-                query.with(Sort.by(Sort.Direction.DESC, "rooms.price"));
-            }
-        }
+        return query;
+    }
 
-        if (request.getPage() >= 0 && request.getPageSize() > 0) {
-            query.skip((long) request.getPage() * request.getPageSize()).limit(request.getPageSize());
+    private boolean hasRoomsFor(Hotel hotel, GetHotelsFilters filters) {
+        boolean hasEnoughRooms = filters.getBedrooms() <= 0 || hotel.getRooms().size() >= filters.getBedrooms();
+        boolean hasEnoughCapacity = true;
+        if (filters.getGuests() > 0) {
+            List<HotelRoom> roomsWithMaxOccupancy = hotel.getRooms().stream()
+                    .sorted((r1, r2) -> Integer.compare(r2.getMaxOccupancy(), r1.getMaxOccupancy()))
+                    .limit(filters.getBedrooms())
+                    .toList();
+            int totalCapacity = roomsWithMaxOccupancy.stream()
+                    .mapToInt(HotelRoom::getMaxOccupancy)
+                    .sum();
+            hasEnoughCapacity = totalCapacity >= filters.getGuests();
         }
-
-        List<Hotel> hotels = mongoTemplate.find(query, Hotel.class, HOTEL_COLLECTION);
-
-        return hotels.stream()
-                .filter(hotel -> {
-                    boolean hasEnoughRooms = filters.getBedrooms() <= 0 || hotel.getRooms().size() >= filters.getBedrooms();
-                    boolean hasEnoughCapacity = true;
-                    if (filters.getGuests() > 0) {
-                        List<HotelRoom> roomsWithMaxOccupancy = hotel.getRooms().stream()
-                                .sorted((r1, r2) -> Integer.compare(r2.getMaxOccupancy(), r1.getMaxOccupancy()))
-                                .limit(filters.getBedrooms())
-                                .toList();
-                        int totalCapacity = roomsWithMaxOccupancy.stream()
-                                .mapToInt(HotelRoom::getMaxOccupancy)
-                                .sum();
-                        hasEnoughCapacity = totalCapacity >= filters.getGuests();
-                    }
-                    return hasEnoughRooms && hasEnoughCapacity;
-                })
-                .toList();
+        return hasEnoughRooms && hasEnoughCapacity;
     }
 
     public boolean exists(String hotelId) {
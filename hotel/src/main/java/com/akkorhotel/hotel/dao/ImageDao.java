@@ -1,26 +1,109 @@
 package com.akkorhotel.hotel.dao;
 
 import com.akkorhotel.hotel.model.Image;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
 
 @Component
 @RequiredArgsConstructor
 public class ImageDao {
 
     private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
 
     private static final String IMAGE_COLLECTION = "IMAGES";
+    private static final long IMAGES_MAX_SIZE = 10_000;
+
+    private final Cache<String, Image> images = Caffeine.newBuilder()
+            .maximumSize(IMAGES_MAX_SIZE)
+            .build();
+
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(IMAGE_COLLECTION)
+                .ensureIndex(new Index().on("contentHash", Sort.Direction.ASC).sparse().named("content_hash"));
+        mongoTemplate.indexOps(IMAGE_COLLECTION)
+                .ensureIndex(new Index().on("url", Sort.Direction.ASC).named("url"));
+    }
 
     public void save(Image image) {
         mongoTemplate.save(image, IMAGE_COLLECTION);
+        images.invalidate(image.getId());
+    }
+
+    public void saveVariants(Image image) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(image.getId())),
+                new Update().set("variants", image.getVariants()), IMAGE_COLLECTION);
+        images.invalidate(image.getId());
+    }
+
+    public void insertAll(List<Image> images) {
+        mongoTemplate.insert(images, IMAGE_COLLECTION);
     }
 
     public Optional<Image> findById(String imageId) {
-        return Optional.ofNullable(mongoTemplate.findById(imageId, Image.class, IMAGE_COLLECTION));
+        Image image = images.get(imageId, id -> mongoTemplate.findById(id, Image.class, IMAGE_COLLECTION));
+        return Optional.ofNullable(image).map(ImageDao::copyOf);
+    }
+
+    public List<Image> findAllByIds(Collection<String> imageIds) {
+        Map<String, Image> foundImages = images.getAll(imageIds, this::loadAllByIds);
+
+        return imageIds.stream()
+                .map(foundImages::get)
+                .filter(Objects::nonNull)
+                .map(ImageDao::copyOf)
+                .toList();
+    }
+
+    public List<Image> findByContentHashes(Collection<String> contentHashes) {
+        Query query = new Query(Criteria.where("contentHash").in(contentHashes));
+        query.fields().include("contentHash", "url");
+
+        return mongoTemplate.find(query, Image.class, IMAGE_COLLECTION);
+    }
+
+    public Flux<Image> findVariantsByUrls(Collection<String> urls) {
+        Query query = new Query(Criteria.where("url").in(urls));
+        query.fields().include("url", "variants");
+
+        return reactiveMongoTemplate.find(query, Image.class, IMAGE_COLLECTION);
+    }
+
+    private Map<String, Image> loadAllByIds(Set<? extends String> imageIds) {
+        Query query = new Query(Criteria.where("_id").in(imageIds));
+
+        return mongoTemplate.find(query, Image.class, IMAGE_COLLECTION).stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+    }
+
+    private static Image copyOf(Image image) {
+        return image.toBuilder()
+                .variants(isNull(image.getVariants()) ? null : new HashMap<>(image.getVariants()))
+                .build();
     }
 
 }
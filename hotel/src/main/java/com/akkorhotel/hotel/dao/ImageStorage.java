@@ -0,0 +1,17 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.model.StoredImage;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+
+public interface ImageStorage {
+
+    String store(ReadableByteChannel content, String filename) throws IOException;
+
+    Optional<StoredImage> find(String name);
+
+    void delete(String url) throws IOException;
+
+}
@@ -0,0 +1,29 @@
+package com.akkorhotel.hotel.dao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "akkorhotel.properties.rate-limit-store", havingValue = "local")
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private long currentWindow;
+
+    @Override
+    public synchronized Map<String, Long> incrementAll(long window, Map<String, Long> deltas) {
+        if (window != currentWindow) {
+            counts.clear();
+            currentWindow = window;
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        deltas.forEach((key, delta) -> totals.put(key, counts.merge(key, delta, Long::sum)));
+
+        return totals;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.model.ImageExtension;
+import com.akkorhotel.hotel.model.StoredImage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+
+@Component
+@ConditionalOnProperty(name = "akkorhotel.properties.image-storage", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final String IMAGE_PATH = "/image/";
+    private static final Pattern IMAGE_NAME_PATTERN = Pattern.compile("[a-f0-9-]{36}\\.(" + Arrays.stream(ImageExtension.values())
+            .map(ImageExtension::name)
+            .collect(Collectors.joining("|")) + ")");
+
+    private final Path directory;
+    private final String publicUrl;
+
+    public LocalImageStorage(EnvConfiguration envConfiguration) throws IOException {
+        this.directory = Files.createDirectories(Path.of(envConfiguration.getImageStorageDirectory())).toAbsolutePath();
+        this.publicUrl = envConfiguration.getImageStoragePublicUrl();
+    }
+
+    @Override
+    public String store(ReadableByteChannel content, String filename) throws IOException {
+        String name = UUID.randomUUID() + "." + getExtension(filename);
+        Path partialFile = directory.resolve(name + ".part");
+
+        try {
+            try (FileChannel target = FileChannel.open(partialFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(content, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+                target.force(true);
+            }
+
+            Files.move(partialFile, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partialFile);
+        }
+
+        return publicUrl + IMAGE_PATH + name;
+    }
+
+    @Override
+    public Optional<StoredImage> find(String name) {
+        if (!IMAGE_NAME_PATTERN.matcher(name).matches()) {
+            return Optional.empty();
+        }
+
+        Path path = directory.resolve(name);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            return Optional.of(StoredImage.builder()
+                    .path(path)
+                    .size(attributes.size())
+                    .lastModified(lastModified)
+                    .contentType(MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString())
+                    .etag("\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"")
+                    .build());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String url) throws IOException {
+        String prefix = publicUrl + IMAGE_PATH;
+        if (isNull(url) || !url.startsWith(prefix)) {
+            return;
+        }
+
+        String name = url.substring(prefix.length());
+        if (IMAGE_NAME_PATTERN.matcher(name).matches()) {
+            Files.deleteIfExists(directory.resolve(name));
+        }
+    }
+
+    private String getExtension(String filename) throws IOException {
+        if (isNull(filename) || !filename.contains(".")) {
+            throw new IOException("Unsupported image file: " + filename);
+        }
+
+        try {
+            return ImageExtension.valueOf(filename.substring(filename.lastIndexOf('.') + 1)).name();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unsupported image file: " + filename, e);
+        }
+    }
+
+}
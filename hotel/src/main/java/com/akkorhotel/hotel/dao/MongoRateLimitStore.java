@@ -0,0 +1,62 @@
+package com.akkorhotel.hotel.dao;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "akkorhotel.properties.rate-limit-store", havingValue = "mongo", matchIfMissing = true)
+public class MongoRateLimitStore implements RateLimitStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String RATE_LIMIT_COLLECTION = "RATE_LIMITS";
+    private static final long WINDOW_RETENTION = TimeUnit.MINUTES.toMillis(2);
+
+    @PostConstruct
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(RATE_LIMIT_COLLECTION)
+                .ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+    }
+
+    @Override
+    public Map<String, Long> incrementAll(long window, Map<String, Long> deltas) {
+        Date expiresAt = new Date(System.currentTimeMillis() + WINDOW_RETENTION);
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RATE_LIMIT_COLLECTION);
+        deltas.forEach((key, delta) -> bulkOperations.upsert(
+                new Query(Criteria.where("_id").is(documentId(key, window))),
+                new Update().inc("count", delta).setOnInsert("key", key).setOnInsert("window", window).set("expiresAt", expiresAt)
+        ));
+        bulkOperations.execute();
+
+        List<String> documentIds = deltas.keySet().stream().map(key -> documentId(key, window)).toList();
+        List<Document> documents = mongoTemplate.find(new Query(Criteria.where("_id").in(documentIds)), Document.class, RATE_LIMIT_COLLECTION);
+
+        Map<String, Long> totals = new HashMap<>();
+        documents.forEach(document -> totals.put(document.getString("key"), ((Number) document.get("count")).longValue()));
+
+        return totals;
+    }
+
+    private static String documentId(String key, long window) {
+        return key + ":" + window;
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.model.OutboundEmail;
+import com.akkorhotel.hotel.model.OutboundEmailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OutboundEmailDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String OUTBOUND_EMAIL_COLLECTION = "EMAIL_OUTBOX";
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(OUTBOUND_EMAIL_COLLECTION)
+                .ensureIndex(new Index()
+                        .on("status", Sort.Direction.ASC)
+                        .on("nextAttemptAt", Sort.Direction.ASC));
+        mongoTemplate.indexOps(OUTBOUND_EMAIL_COLLECTION)
+                .ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+    }
+
+    public void insert(OutboundEmail outboundEmail) {
+        mongoTemplate.insert(outboundEmail, OUTBOUND_EMAIL_COLLECTION);
+    }
+
+    public void insertAllIgnoringDuplicates(List<OutboundEmail> outboundEmails) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboundEmail.class, OUTBOUND_EMAIL_COLLECTION)
+                    .insert(outboundEmails)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY_ERROR_CODE)) {
+                throw e;
+            }
+        }
+    }
+
+    public Optional<OutboundEmail> claimNext(Date now, Date leaseExpiresAt) {
+        Query query = new Query(Criteria.where("status").in(OutboundEmailStatus.PENDING, OutboundEmailStatus.SENDING)
+                .and("nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+
+        Update update = new Update()
+                .set("status", OutboundEmailStatus.SENDING)
+                .set("nextAttemptAt", leaseExpiresAt)
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), OutboundEmail.class, OUTBOUND_EMAIL_COLLECTION));
+    }
+
+    public void markSent(String id, Date sentAt, Date expiresAt) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update()
+                        .set("status", OutboundEmailStatus.SENT)
+                        .set("sentAt", sentAt)
+                        .set("expiresAt", expiresAt)
+                        .unset("lastError"),
+                OUTBOUND_EMAIL_COLLECTION);
+    }
+
+    public void reschedule(String id, Date nextAttemptAt, String lastError) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update()
+                        .set("status", OutboundEmailStatus.PENDING)
+                        .set("nextAttemptAt", nextAttemptAt)
+                        .set("lastError", lastError),
+                OUTBOUND_EMAIL_COLLECTION);
+    }
+
+    public void markFailed(String id, String lastError) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update()
+                        .set("status", OutboundEmailStatus.FAILED)
+                        .set("lastError", lastError),
+                OUTBOUND_EMAIL_COLLECTION);
+    }
+
+    public long countPending() {
+        return mongoTemplate.count(new Query(Criteria.where("status").in(OutboundEmailStatus.PENDING, OutboundEmailStatus.SENDING)),
+                OUTBOUND_EMAIL_COLLECTION);
+    }
+
+}
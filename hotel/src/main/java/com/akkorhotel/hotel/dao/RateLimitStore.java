@@ -0,0 +1,9 @@
+package com.akkorhotel.hotel.dao;
+
+import java.util.Map;
+
+public interface RateLimitStore {
+
+    Map<String, Long> incrementAll(long window, Map<String, Long> deltas);
+
+}
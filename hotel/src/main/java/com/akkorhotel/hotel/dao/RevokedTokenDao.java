@@ -0,0 +1,44 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.model.RevokedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String REVOKED_TOKEN_COLLECTION = "REVOKED_TOKENS";
+
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(REVOKED_TOKEN_COLLECTION)
+                .ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        mongoTemplate.indexOps(REVOKED_TOKEN_COLLECTION)
+                .ensureIndex(new Index().on("revokedAt", Sort.Direction.ASC));
+    }
+
+    public void save(RevokedToken revokedToken) {
+        mongoTemplate.save(revokedToken, REVOKED_TOKEN_COLLECTION);
+    }
+
+    public void insert(RevokedToken revokedToken) {
+        mongoTemplate.insert(revokedToken, REVOKED_TOKEN_COLLECTION);
+    }
+
+    public List<RevokedToken> findRevokedSince(Date date) {
+        Query query = new Query(Criteria.where("revokedAt").gte(date).and("expiresAt").gt(new Date()));
+        return mongoTemplate.find(query, RevokedToken.class, REVOKED_TOKEN_COLLECTION);
+    }
+
+}
@@ -2,16 +2,29 @@ package com.akkorhotel.hotel.dao;
 
 import com.akkorhotel.hotel.model.User;
 import com.akkorhotel.hotel.model.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteError;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -23,9 +36,39 @@ public class UserDao {
     private final MongoTemplate mongoTemplate;
 
     private static final String USER_COLLECTION = "USERS";
+    private static final String USERNAME_INDEX = "unique_username";
+    private static final String EMAIL_INDEX = "unique_email";
+    private static final Pattern VIOLATED_INDEX = Pattern.compile("index: (\\S+)");
+    private static final long AUTHENTICATED_USERS_MAX_SIZE = 10_000;
+    private static final Duration AUTHENTICATED_USERS_TTL = Duration.ofMinutes(5);
+
+    private final Cache<String, User> authenticatedUsers = Caffeine.newBuilder()
+            .maximumSize(AUTHENTICATED_USERS_MAX_SIZE)
+            .expireAfterWrite(AUTHENTICATED_USERS_TTL)
+            .build();
+
+    @PostConstruct
+    public void ensureIndexes() {
+        IndexOperations indexOperations = mongoTemplate.indexOps(USER_COLLECTION);
+        indexOperations.ensureIndex(new Index().on("username", Sort.Direction.ASC).unique().named(USERNAME_INDEX));
+        indexOperations.ensureIndex(new Index().on("email", Sort.Direction.ASC).unique().named(EMAIL_INDEX));
+    }
+
+    public void insert(User user) {
+        mongoTemplate.insert(user, USER_COLLECTION);
+    }
+
+    public boolean isDuplicateUsername(DuplicateKeyException exception) {
+        return USERNAME_INDEX.equals(getViolatedIndex(exception));
+    }
+
+    public boolean isDuplicateEmail(DuplicateKeyException exception) {
+        return EMAIL_INDEX.equals(getViolatedIndex(exception));
+    }
 
     public void save(User user) {
         mongoTemplate.save(user, USER_COLLECTION);
+        authenticatedUsers.invalidate(user.getId());
     }
 
     public UserRole getUserRole(String userId) {
@@ -42,13 +85,6 @@ public class UserDao {
                 .orElse(null);
     }
 
-    public boolean isUserInDatabase(String username, String email) {
-        return mongoTemplate.exists(new Query(new Criteria().orOperator(
-                Criteria.where("username").is(username),
-                Criteria.where("email").is(email)
-        )), USER_COLLECTION);
-    }
-
     public Optional<User> findByEmail(String email) {
         return Optional.ofNullable(mongoTemplate.findOne(new Query(Criteria.where("email").is(email)), User.class, USER_COLLECTION));
     }
@@ -57,16 +93,28 @@ public class UserDao {
         return Optional.ofNullable(mongoTemplate.findById(userId, User.class, USER_COLLECTION));
     }
 
-    public boolean isUsernameAlreadyUsed(String username) {
-        return mongoTemplate.exists(new Query(Criteria.where("username").is(username)), USER_COLLECTION);
+    public List<User> findContactsByIds(Collection<String> userIds) {
+        Query query = new Query(Criteria.where("_id").in(userIds));
+        query.fields().include("username", "email");
+
+        return mongoTemplate.find(query, User.class, USER_COLLECTION);
     }
 
-    public boolean isEmailAlreadyUsed(String email) {
-        return mongoTemplate.exists(new Query(Criteria.where("email").is(email)), USER_COLLECTION);
+    public List<User> findContactsByRole(UserRole role) {
+        Query query = new Query(Criteria.where("role").is(role));
+        query.fields().include("username", "email");
+
+        return mongoTemplate.find(query, User.class, USER_COLLECTION);
+    }
+
+    public Optional<User> findAuthenticatedUserById(String userId) {
+        User user = authenticatedUsers.get(userId, id -> mongoTemplate.findById(id, User.class, USER_COLLECTION));
+        return Optional.ofNullable(user).map(cachedUser -> cachedUser.toBuilder().build());
     }
 
     public void delete(String userId) {
         mongoTemplate.remove(new Query(Criteria.where("_id").is(userId)), USER_COLLECTION);
+        authenticatedUsers.invalidate(userId);
     }
 
     public long countUsersByUsernamePrefix(String keyword) {
@@ -100,4 +148,22 @@ public class UserDao {
         return mongoTemplate.exists(new Query(Criteria.where("_id").is(userId)), User.class, USER_COLLECTION);
     }
 
+    private String getViolatedIndex(DuplicateKeyException exception) {
+        if (!(exception.getCause() instanceof MongoWriteException writeException)) {
+            return null;
+        }
+
+        WriteError error = writeException.getError();
+        BsonDocument keyPattern = error.getDetails().getDocument("keyPattern", new BsonDocument());
+        if (keyPattern.containsKey("username")) {
+            return USERNAME_INDEX;
+        }
+        if (keyPattern.containsKey("email")) {
+            return EMAIL_INDEX;
+        }
+
+        Matcher matcher = VIOLATED_INDEX.matcher(String.valueOf(error.getMessage()));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
 }
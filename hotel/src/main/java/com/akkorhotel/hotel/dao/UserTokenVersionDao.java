@@ -0,0 +1,50 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.model.UserTokenVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class UserTokenVersionDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String USER_TOKEN_VERSION_COLLECTION = "USER_TOKEN_VERSIONS";
+
+    public Optional<UserTokenVersion> findById(String userId) {
+        return Optional.ofNullable(mongoTemplate.findById(userId, UserTokenVersion.class, USER_TOKEN_VERSION_COLLECTION));
+    }
+
+    public UserTokenVersion incrementVersion(String userId) {
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(userId)),
+                new Update().inc("version", 1).set("updatedAt", new Date()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                UserTokenVersion.class,
+                USER_TOKEN_VERSION_COLLECTION
+        );
+    }
+
+    public void revoke(String userId) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("_id").is(userId)),
+                new Update().set("version", UserTokenVersion.REVOKED_VERSION).set("updatedAt", new Date()),
+                USER_TOKEN_VERSION_COLLECTION
+        );
+    }
+
+    public List<UserTokenVersion> findUpdatedSince(Date date) {
+        return mongoTemplate.find(new Query(Criteria.where("updatedAt").gte(date)), UserTokenVersion.class, USER_TOKEN_VERSION_COLLECTION);
+    }
+
+}
@@ -31,4 +31,7 @@ public class Booking {
     @Builder.Default
     private BookingStatus status = BookingStatus.PENDING;
 
+    private long version;
+    private Date lastModified;
+
 }
@@ -0,0 +1,27 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+public class DispatchCheckpoint {
+
+    @Id
+    private String id;
+
+    private String lastBookingId;
+    private boolean completed;
+    private String owner;
+    private Date leaseExpiresAt;
+    private Date updatedAt;
+    private Date expiresAt;
+
+}
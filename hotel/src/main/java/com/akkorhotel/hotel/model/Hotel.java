@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
 
+import java.util.Date;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -35,4 +36,7 @@ public class Hotel {
 
     private int stars;
 
+    private long version;
+    private Date lastModified;
+
 }
@@ -6,9 +6,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
 
+import java.util.Map;
+
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @EqualsAndHashCode
 public class Image {
 
@@ -18,8 +20,11 @@ public class Image {
     private String name;
     private String url;
     private String uploaderId;
+    private String contentHash;
 
     private ImageCategory category;
     private ImageExtension extension;
 
+    private Map<ImageVariant, String> variants;
+
 }
@@ -0,0 +1,15 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL(320),
+    MEDIUM(960),
+    LARGE(1920);
+
+    private final int maxWidth;
+
+}
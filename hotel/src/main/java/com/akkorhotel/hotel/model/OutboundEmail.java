@@ -0,0 +1,31 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+public class OutboundEmail {
+
+    @Id
+    private String id;
+
+    private String to;
+    private String subject;
+    private String body;
+    private OutboundEmailStatus status;
+    private int attempts;
+    private Date nextAttemptAt;
+    private Date createdAt;
+    private String lastError;
+    private Date sentAt;
+    private Date expiresAt;
+
+}
@@ -0,0 +1,8 @@
+package com.akkorhotel.hotel.model;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
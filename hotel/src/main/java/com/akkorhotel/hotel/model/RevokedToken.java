@@ -0,0 +1,24 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+public class RevokedToken {
+
+    @Id
+    private String id;
+
+    private String userId;
+    private Date expiresAt;
+    private Date revokedAt;
+
+}
@@ -0,0 +1,18 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+@Getter
+@Builder
+public class StoredImage {
+
+    private Path path;
+    private long size;
+    private long lastModified;
+    private String contentType;
+    private String etag;
+
+}
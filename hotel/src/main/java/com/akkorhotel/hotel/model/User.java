@@ -9,7 +9,7 @@ import org.springframework.data.annotation.Id;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @EqualsAndHashCode
 public class User {
 
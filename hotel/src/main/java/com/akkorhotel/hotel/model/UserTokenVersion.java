@@ -0,0 +1,25 @@
+package com.akkorhotel.hotel.model;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+public class UserTokenVersion {
+
+    public static final long REVOKED_VERSION = Long.MAX_VALUE;
+
+    @Id
+    private String id;
+
+    private long version;
+    private Date updatedAt;
+
+}
@@ -12,6 +12,7 @@ import com.akkorhotel.hotel.model.response.GetUserByIdResponse;
 import com.akkorhotel.hotel.utils.ImageUtils;
 import com.akkorhotel.hotel.utils.UserUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -37,6 +38,7 @@ public class AdminService {
     private final ImageUtils imageUtils;
     private final HotelRoomDao hotelRoomDao;
     private final BookingDao bookingDao;
+    private final UserTokenVersionService userTokenVersionService;
 
     public ResponseEntity<Map<String, GetAllUsersResponse>> getAllUsers(String keyword, int page, int pageSize) {
         GetAllUsersResponse response = GetAllUsersResponse.builder().build();
@@ -95,6 +97,7 @@ public class AdminService {
         }
 
         User user = optionalUser.get();
+        UserRole previousRole = user.getRole();
         List<String> errors = new ArrayList<>();
 
         validateRequest(errors, request);
@@ -110,7 +113,15 @@ public class AdminService {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("errors", userUtils.getErrorsAsString(errors)));
         }
 
-        userDao.save(user);
+        try {
+            userDao.save(user);
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("errors", userUtils.getErrorsAsString(getDuplicateKeyErrors(e, request))));
+        }
+
+        if (!previousRole.equals(user.getRole())) {
+            userTokenVersionService.incrementVersion(userId);
+        }
 
         return ResponseEntity.ok(singletonMap("message", "User with id: " + userId + " updated successfully"));
     }
@@ -127,7 +138,8 @@ public class AdminService {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("errors", userUtils.getErrorsAsString(errors)));
         }
 
-        List<String> pictureUrlsList = getPictureListUrls(picture_list, authenticatedUser, request.getName());
+        List<String> pictureErrors = new ArrayList<>();
+        List<String> pictureUrlsList = getPictureListUrls(picture_list, authenticatedUser, request.getName(), pictureErrors);
         if (isNull(pictureUrlsList)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", "At least one valid picture is required"));
         }
@@ -135,6 +147,12 @@ public class AdminService {
         Hotel hotel = buildHotel(request, pictureUrlsList);
         hotelDao.save(hotel);
 
+        if (!pictureErrors.isEmpty()) {
+            return ResponseEntity.ok(Map.of(
+                    "message", "Hotel created successfully",
+                    "errors", userUtils.getErrorsAsString(pictureErrors)));
+        }
+
         return ResponseEntity.ok(singletonMap("message", "Hotel created successfully"));
     }
 
@@ -373,35 +391,135 @@ public class AdminService {
         return (int) Math.ceil((double) totalUsers / pageSize);
     }
 
-    private List<String> getPictureListUrls(List<MultipartFile> pictureList, User authenticatedUser, String hotelName) {
+    private List<String> getPictureListUrls(List<MultipartFile> pictureList, User authenticatedUser, String hotelName, List<String> errors) {
         if (isNull(pictureList) || pictureList.isEmpty()) {
             return null;
         }
 
-        List<String> urls = pictureList.stream()
-                .map(file -> processSingleImage(file, authenticatedUser, hotelName))
-                .filter(Objects::nonNull)
-                .collect(toList());
+        List<MultipartFile> validPictures = new ArrayList<>();
+        List<ImageExtension> imageExtensions = new ArrayList<>();
+        for (MultipartFile file : pictureList) {
+            ImageExtension imageExtension = imageService.getImageExtension(file.getOriginalFilename());
+            if (isNull(imageExtension)) {
+                errors.add("Unsupported picture format: " + file.getOriginalFilename());
+                continue;
+            }
+
+            String pictureError = imageService.validateUploadedImage(file, imageExtension);
+            if (!isNull(pictureError)) {
+                errors.add(pictureError + ": " + file.getOriginalFilename());
+                continue;
+            }
+
+            validPictures.add(file);
+            imageExtensions.add(imageExtension);
+        }
+
+        if (validPictures.isEmpty()) {
+            return null;
+        }
+
+        List<String> contentHashes = new ArrayList<>();
+        for (MultipartFile file : validPictures) {
+            contentHashes.add(hashImage(file));
+        }
+
+        Map<String, String> knownUrls = imageService.getUrlsByContentHashes(
+                contentHashes.stream().filter(Objects::nonNull).collect(toSet()));
+
+        Map<String, Integer> picturesToUpload = new LinkedHashMap<>();
+        for (int i = 0; i < validPictures.size(); i++) {
+            String contentHash = contentHashes.get(i);
+            if (!isNull(contentHash) && !knownUrls.containsKey(contentHash)) {
+                picturesToUpload.putIfAbsent(contentHash, i);
+            }
+        }
+
+        List<String> uploadedUrls = picturesToUpload.isEmpty()
+                ? List.of()
+                : imageUtils.uploadImages(picturesToUpload.values().stream().map(validPictures::get).toList());
 
-        return urls.isEmpty() ? null : urls;
+        Map<String, String> urlsByContentHash = new HashMap<>(knownUrls);
+        List<Image> images = new ArrayList<>();
+        List<MultipartFile> imageSources = new ArrayList<>();
+        int uploadIndex = 0;
+        for (Map.Entry<String, Integer> pictureToUpload : picturesToUpload.entrySet()) {
+            String url = uploadedUrls.get(uploadIndex++);
+            if (isNull(url)) {
+                continue;
+            }
+
+            int pictureIndex = pictureToUpload.getValue();
+            urlsByContentHash.put(pictureToUpload.getKey(), url);
+            images.add(buildHotelImage(hotelName, url, imageExtensions.get(pictureIndex), authenticatedUser.getId(), pictureToUpload.getKey()));
+            imageSources.add(validPictures.get(pictureIndex));
+        }
+
+        Set<String> urls = new LinkedHashSet<>();
+        for (int i = 0; i < validPictures.size(); i++) {
+            String url = isNull(contentHashes.get(i)) ? null : urlsByContentHash.get(contentHashes.get(i));
+            if (isNull(url)) {
+                errors.add("Failed to upload picture: " + validPictures.get(i).getOriginalFilename());
+                continue;
+            }
+
+            urls.add(url);
+        }
+
+        if (!images.isEmpty()) {
+            imageService.saveNewImages(images);
+            imageService.generateVariants(images, imageSources);
+        }
+
+        return urls.isEmpty() ? null : new ArrayList<>(urls);
     }
 
     private String processSingleImage(MultipartFile file, User authenticatedUser, String hotelName) {
         ImageExtension imageExtension = imageService.getImageExtension(file.getOriginalFilename());
-        if (isNull(imageExtension)) {
+        if (isNull(imageExtension) || !isNull(imageService.validateUploadedImage(file, imageExtension))) {
+            return null;
+        }
+
+        String contentHash = hashImage(file);
+        if (isNull(contentHash)) {
             return null;
         }
 
-        String filename = "hotel-image-" + hotelName + "." + imageExtension.name();
+        String knownUrl = imageService.getUrlsByContentHashes(List.of(contentHash)).get(contentHash);
+        if (!isNull(knownUrl)) {
+            return knownUrl;
+        }
+
         String url = uploadImage(file);
 
         if (url != null) {
-            imageService.saveNewImage(ImageCategory.HOTEL, filename, url, imageExtension, authenticatedUser.getId());
+            List<Image> images = List.of(buildHotelImage(hotelName, url, imageExtension, authenticatedUser.getId(), contentHash));
+            imageService.saveNewImages(images);
+            imageService.generateVariants(images, List.of(file));
         }
 
         return url;
     }
 
+    private Image buildHotelImage(String hotelName, String url, ImageExtension imageExtension, String uploaderId, String contentHash) {
+        return Image.builder()
+                .category(ImageCategory.HOTEL)
+                .name("hotel-image-" + hotelName + "." + imageExtension.name())
+                .url(url)
+                .extension(imageExtension)
+                .uploaderId(uploaderId)
+                .contentHash(contentHash)
+                .build();
+    }
+
+    private String hashImage(MultipartFile file) {
+        try {
+            return imageUtils.hashImage(file);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     private String uploadImage(MultipartFile file) {
         try {
             return imageUtils.uploadImage(file);
@@ -539,6 +657,21 @@ public class AdminService {
         return null;
     }
 
+    private List<String> getDuplicateKeyErrors(DuplicateKeyException exception, AdminUpdateUserRequest request) {
+        List<String> errors = new ArrayList<>();
+        if (userDao.isDuplicateUsername(exception)) {
+            errors.add("The username '" + request.getUsername() + "' is already in use by another account. Please choose a different one");
+        }
+        if (userDao.isDuplicateEmail(exception)) {
+            errors.add("The email address '" + request.getEmail() + "' is already associated with another account");
+        }
+        if (errors.isEmpty()) {
+            errors.add("The username or email address is already in use by another account");
+        }
+
+        return errors;
+    }
+
     private void validateRequest(List<String> errors, AdminUpdateUserRequest request) {
         if (isNull(request.getEmail()) && isNull(request.getUsername()) && isNull(request.getIsValidEmail()) && isNull(request.getRole()) && isNull(request.getProfileImageUrl())) {
             errors.add("No values provided for update. Please specify at least one field (email, username, isValidEmail, profileImageUrl or role)");
@@ -551,10 +684,6 @@ public class AdminService {
                 errors.add("The provided username is invalid. It must be between 3 and 11 characters long and cannot contain spaces");
             }
 
-            if (userDao.isUsernameAlreadyUsed(username)) {
-                errors.add("The username '" + username + "' is already in use by another account. Please choose a different one");
-            }
-
             if (username.equals(userToUpdate.getUsername())) {
                 errors.add("The new username must be different from the current one");
             }
@@ -584,10 +713,6 @@ public class AdminService {
                 errors.add("The provided email format is invalid. Please enter a valid email address");
             }
 
-            if (userDao.isEmailAlreadyUsed(email)) {
-                errors.add("The email address '" + email + "' is already associated with another account");
-            }
-
             if (email.equals(userToUpdate.getEmail())) {
                 errors.add("The new email address must be different from the current one");
             }
@@ -5,28 +5,35 @@ import com.akkorhotel.hotel.dao.UserDao;
 import com.akkorhotel.hotel.model.User;
 import com.akkorhotel.hotel.model.request.LoginRequest;
 import com.akkorhotel.hotel.utils.UserUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class AuthenticationService {
 
     private final UserDao userDao;
     private final UuidProvider uuidProvider;
     private final JwtTokenService jwtTokenService;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserUtils userUtils;
     private final EnvConfiguration envConfiguration;
+    private final UserTokenVersionService userTokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
 
     public ResponseEntity<Map<String, String>> register(User user) {
         String error = getValidationError(user);
@@ -35,9 +42,17 @@ public class AuthenticationService {
         }
 
         user.setId(uuidProvider.generateUuid());
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        try {
+            user.setPassword(passwordHashingService.encode(user.getPassword()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(singletonMap("error", "Too many authentication requests. Please try again later."));
+        }
         user.setProfileImageUrl(envConfiguration.getDefaultUserProfileImage());
-        userDao.save(user);
+        try {
+            userDao.insert(user);
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", "A user with this email or username already exists."));
+        }
 
         error = userUtils.sendRegisterConfirmationEmail(user);
         if (!isNull(error)) {
@@ -60,11 +75,61 @@ public class AuthenticationService {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(singletonMap("error", "Email is not verified"));
         }
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        boolean isPasswordValid;
+        try {
+            isPasswordValid = passwordHashingService.matches(loginRequest.getPassword(), user.getPassword());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(singletonMap("error", "Too many authentication requests. Please try again later."));
+        }
+
+        if (!isPasswordValid) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", "Invalid password"));
         }
 
-        return ResponseEntity.ok(singletonMap("token", jwtTokenService.generateToken(user.getId())));
+        upgradePasswordHashIfNeeded(user, loginRequest.getPassword());
+
+        return ResponseEntity.ok(generateTokens(user));
+    }
+
+    public ResponseEntity<Map<String, String>> refreshToken(String refreshToken) {
+        Claims claims = jwtTokenService.resolveRefreshTokenClaims(refreshToken);
+        if (isNull(claims)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(singletonMap("error", "Invalid or expired refresh token"));
+        }
+
+        String userId = claims.getSubject();
+        if (!tokenRevocationService.tryRevoke(claims.getId(), userId, claims.getExpiration())) {
+            userTokenVersionService.incrementVersion(userId);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(singletonMap("error", "Invalid or expired refresh token"));
+        }
+
+        if (!userTokenVersionService.isTokenVersionValid(userId, jwtTokenService.resolveTokenVersion(claims))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(singletonMap("error", "Invalid or expired refresh token"));
+        }
+
+        Optional<User> optionalUser = userDao.findById(userId);
+        if (optionalUser.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(singletonMap("error", "User not found"));
+        }
+
+        return ResponseEntity.ok(generateTokens(optionalUser.get()));
+    }
+
+    public ResponseEntity<Map<String, String>> logout(String refreshToken, HttpServletRequest request) {
+        Claims refreshTokenClaims = jwtTokenService.resolveRefreshTokenClaims(refreshToken);
+        if (isNull(refreshTokenClaims)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(singletonMap("error", "Invalid or expired refresh token"));
+        }
+
+        tokenRevocationService.revoke(refreshTokenClaims.getId(), refreshTokenClaims.getSubject(), refreshTokenClaims.getExpiration());
+
+        Claims accessTokenClaims = jwtTokenService.resolveClaimsFromRequest(request);
+        if (!isNull(accessTokenClaims) && jwtTokenService.isAccessToken(accessTokenClaims)
+                && refreshTokenClaims.getSubject().equals(accessTokenClaims.getSubject())) {
+            tokenRevocationService.revoke(accessTokenClaims.getId(), accessTokenClaims.getSubject(), accessTokenClaims.getExpiration());
+        }
+
+        return ResponseEntity.ok(singletonMap("message", "Successfully logged out"));
     }
 
     public ResponseEntity<Map<String, String>> confirmEmail(String token) {
@@ -109,6 +174,28 @@ public class AuthenticationService {
         return ResponseEntity.ok().body(singletonMap("message", "Confirmation email successfully sent"));
     }
 
+    private Map<String, String> generateTokens(User user) {
+        long tokenVersion = userTokenVersionService.loadCurrentVersion(user.getId());
+
+        return Map.of(
+                "token", jwtTokenService.generateToken(user.getId(), user.getRole(), tokenVersion),
+                "refreshToken", jwtTokenService.generateRefreshToken(user.getId(), tokenVersion)
+        );
+    }
+
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userDao.save(user);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ Skipped password hash upgrade for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     private String getValidationError(User user) {
         if (userUtils.isInvalidEmail(user.getEmail())) {
             return "The provided email is not valid.";
@@ -119,9 +206,6 @@ public class AuthenticationService {
         if (userUtils.isInvalidPassword(user.getPassword())) {
             return "The password does not meet the required criteria.";
         }
-        if (userDao.isUserInDatabase(user.getUsername(), user.getEmail())) {
-            return "A user with this email or username already exists.";
-        }
 
         return null;
     }
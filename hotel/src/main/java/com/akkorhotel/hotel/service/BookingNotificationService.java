@@ -0,0 +1,218 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.BookingDao;
+import com.akkorhotel.hotel.dao.DispatchCheckpointDao;
+import com.akkorhotel.hotel.dao.UserDao;
+import com.akkorhotel.hotel.model.*;
+import com.akkorhotel.hotel.utils.MailTemplates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+@Service
+@Slf4j
+@EnableScheduling
+@RequiredArgsConstructor
+public class BookingNotificationService {
+
+    private static final String BOOKING_REMINDER_TEMPLATE = "booking-reminder";
+    private static final String ADMIN_DIGEST_TEMPLATE = "admin-digest";
+    private static final String ADMIN_DIGEST_ROW_TEMPLATE = "admin-digest-row";
+    private static final String BOOKING_REMINDER_SUBJECT = "Rappel : votre séjour approche";
+    private static final String ADMIN_DIGEST_SUBJECT = "Récapitulatif des arrivées du %s";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final Duration CHECKPOINT_RETENTION = Duration.ofDays(7);
+    private static final Duration DISPATCH_LEASE = Duration.ofMinutes(5);
+
+    private final BookingDao bookingDao;
+    private final UserDao userDao;
+    private final DispatchCheckpointDao dispatchCheckpointDao;
+    private final EmailService emailService;
+    private final MailTemplates mailTemplates;
+    private final EnvConfiguration envConfiguration;
+    private final UuidProvider uuidProvider;
+
+    @Scheduled(cron = "${akkorhotel.properties.booking-reminder-cron:0 0 8 * * *}")
+    public void dispatchBookingReminders() {
+        dispatchBookingReminders(LocalDate.now());
+    }
+
+    @Scheduled(cron = "${akkorhotel.properties.admin-digest-cron:0 0 7 * * *}")
+    public void dispatchAdminDigests() {
+        dispatchAdminDigests(LocalDate.now());
+    }
+
+    public void dispatchBookingReminders(LocalDate date) {
+        Optional<DispatchCheckpoint> claimedCheckpoint = claimCheckpoint("booking-reminders:" + date);
+        if (claimedCheckpoint.isEmpty()) {
+            return;
+        }
+
+        DispatchCheckpoint checkpoint = claimedCheckpoint.get();
+
+        LocalDate stayDate = date.plusDays(envConfiguration.getBookingReminderLeadDays());
+        int batchSize = envConfiguration.getNotificationBatchSize();
+        int dispatched = 0;
+
+        try (Stream<Booking> bookings = streamBookingsCheckingInOn(stayDate, checkpoint.getLastBookingId(), batchSize)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            List<Booking> batch = new ArrayList<>(batchSize);
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    dispatched += queueBookingReminders(batch);
+                    checkpoint.setLastBookingId(batch.getLast().getId());
+                    if (!saveCheckpoint(checkpoint)) {
+                        return;
+                    }
+                    batch.clear();
+                }
+            }
+        }
+
+        checkpoint.setCompleted(true);
+        saveCheckpoint(checkpoint);
+        log.debug("🔄 Queued {} booking reminders for {}", dispatched, stayDate);
+    }
+
+    public void dispatchAdminDigests(LocalDate date) {
+        Optional<DispatchCheckpoint> claimedCheckpoint = claimCheckpoint("admin-digest:" + date);
+        if (claimedCheckpoint.isEmpty()) {
+            return;
+        }
+
+        DispatchCheckpoint checkpoint = claimedCheckpoint.get();
+
+        LocalDate stayDate = date.plusDays(1);
+        Map<String, HotelArrivals> arrivals = new TreeMap<>();
+
+        try (Stream<Booking> bookings = streamBookingsCheckingInOn(stayDate, null, envConfiguration.getNotificationBatchSize())) {
+            bookings.forEach(booking -> arrivals
+                    .computeIfAbsent(booking.getHotel().getName(), hotelName -> new HotelArrivals())
+                    .add(booking.getGuests()));
+        }
+
+        String hotelRows = arrivals.entrySet().stream()
+                .map(entry -> mailTemplates.render(ADMIN_DIGEST_ROW_TEMPLATE, Map.of(
+                        "hotelName", entry.getKey(),
+                        "bookingCount", String.valueOf(entry.getValue().bookings),
+                        "guestCount", String.valueOf(entry.getValue().guests))))
+                .collect(Collectors.joining());
+        long bookingCount = arrivals.values().stream().mapToLong(hotelArrivals -> hotelArrivals.bookings).sum();
+        long guestCount = arrivals.values().stream().mapToLong(hotelArrivals -> hotelArrivals.guests).sum();
+
+        List<OutboundEmail> digests = userDao.findContactsByRole(UserRole.ADMIN).stream()
+                .map(admin -> OutboundEmail.builder()
+                        .id("admin-digest:" + date + ":" + admin.getId())
+                        .to(admin.getEmail())
+                        .subject(ADMIN_DIGEST_SUBJECT.formatted(stayDate.format(DATE_FORMATTER)))
+                        .body(mailTemplates.render(ADMIN_DIGEST_TEMPLATE, Map.of(
+                                "username", admin.getUsername(),
+                                "date", stayDate.format(DATE_FORMATTER),
+                                "bookingCount", String.valueOf(bookingCount),
+                                "guestCount", String.valueOf(guestCount),
+                                "hotelRows", hotelRows)))
+                        .build())
+                .toList();
+        emailService.sendEmails(digests);
+
+        checkpoint.setCompleted(true);
+        saveCheckpoint(checkpoint);
+    }
+
+    private int queueBookingReminders(List<Booking> bookings) {
+        Set<String> userIds = bookings.stream().map(Booking::getUserId).collect(Collectors.toSet());
+        Map<String, User> users = userDao.findContactsByIds(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<OutboundEmail> reminders = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            User user = users.get(booking.getUserId());
+            if (isNull(user)) {
+                continue;
+            }
+
+            reminders.add(OutboundEmail.builder()
+                    .id("booking-reminder:" + booking.getId())
+                    .to(user.getEmail())
+                    .subject(BOOKING_REMINDER_SUBJECT)
+                    .body(mailTemplates.render(BOOKING_REMINDER_TEMPLATE, buildReminderVariables(booking, user)))
+                    .build());
+        }
+
+        emailService.sendEmails(reminders);
+        return reminders.size();
+    }
+
+    private Map<String, String> buildReminderVariables(Booking booking, User user) {
+        Hotel hotel = booking.getHotel();
+        HotelLocation location = hotel.getLocation();
+        ZoneId zone = ZoneId.systemDefault();
+
+        return Map.of(
+                "username", user.getUsername(),
+                "hotelName", hotel.getName(),
+                "hotelAddress", isNull(location) ? "" : location.getAddress() + ", " + location.getCity(),
+                "checkInDate", booking.getCheckInDate().toInstant().atZone(zone).format(DATE_FORMATTER),
+                "checkOutDate", booking.getCheckOutDate().toInstant().atZone(zone).format(DATE_FORMATTER),
+                "roomType", booking.getHotelRoom().getType().getName(),
+                "guests", String.valueOf(booking.getGuests())
+        );
+    }
+
+    private Stream<Booking> streamBookingsCheckingInOn(LocalDate stayDate, String afterBookingId, int batchSize) {
+        ZoneId zone = ZoneId.systemDefault();
+        Date from = Date.from(stayDate.atStartOfDay(zone).toInstant());
+        Date to = Date.from(stayDate.plusDays(1).atStartOfDay(zone).toInstant());
+
+        return bookingDao.streamActiveBookingsCheckingInBetween(from, to, afterBookingId, batchSize);
+    }
+
+    private Optional<DispatchCheckpoint> claimCheckpoint(String checkpointId) {
+        Date now = new Date();
+        return dispatchCheckpointDao.claim(checkpointId, uuidProvider.generateUuid(), now,
+                new Date(now.getTime() + DISPATCH_LEASE.toMillis()),
+                new Date(now.getTime() + CHECKPOINT_RETENTION.toMillis()));
+    }
+
+    private boolean saveCheckpoint(DispatchCheckpoint checkpoint) {
+        Date now = new Date();
+        checkpoint.setUpdatedAt(now);
+        checkpoint.setLeaseExpiresAt(new Date(now.getTime() + DISPATCH_LEASE.toMillis()));
+        checkpoint.setExpiresAt(new Date(now.getTime() + CHECKPOINT_RETENTION.toMillis()));
+
+        if (!dispatchCheckpointDao.saveProgress(checkpoint)) {
+            log.warn("⚠️ Dispatch lease lost for {}, another instance took over", checkpoint.getId());
+            return false;
+        }
+
+        return true;
+    }
+
+    private static class HotelArrivals {
+
+        private long bookings;
+        private long guests;
+
+        private void add(int bookingGuests) {
+            bookings++;
+            guests += bookingGuests;
+        }
+    }
+
+}
@@ -14,6 +14,8 @@ import com.akkorhotel.hotel.model.response.GetBookingResponse;
 import com.akkorhotel.hotel.model.response.GetBookingsResponse;
 import com.akkorhotel.hotel.utils.UserUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,7 @@ import java.util.*;
 
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasText;
 
 @Service
 @RequiredArgsConstructor
@@ -84,7 +87,7 @@ public class BookingService {
         return ResponseEntity.ok(singletonMap("message", "Booking created successfully"));
     }
 
-    public ResponseEntity<Map<String, GetBookingResponse>> getBooking(String authenticatedUserId, String bookingId) {
+    public ResponseEntity<Map<String, GetBookingResponse>> getBooking(String authenticatedUserId, String bookingId, String ifNoneMatch) {
         GetBookingResponse response = GetBookingResponse.builder().build();
 
         Optional<Booking> optionalBooking = bookingDao.findById(bookingId);
@@ -100,8 +103,12 @@ public class BookingService {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(singletonMap("error", response));
         }
 
+        if (hasText(ifNoneMatch) && matchesEntityTag(ifNoneMatch, getEntityTag(booking))) {
+            return withValidators(HttpStatus.NOT_MODIFIED, booking).build();
+        }
+
         response.setBooking(booking);
-        return ResponseEntity.ok(singletonMap("informations", response));
+        return withValidators(HttpStatus.OK, booking).body(singletonMap("informations", response));
     }
 
     public ResponseEntity<Map<String, String>> updateBooking(String authenticatedUserId, UpdateBookingRequest request) {
@@ -222,4 +229,26 @@ public class BookingService {
         return roomPrice * numberOfNights;
     }
 
+    private ResponseEntity.BodyBuilder withValidators(HttpStatus status, Booking booking) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .eTag(getEntityTag(booking))
+                .cacheControl(CacheControl.noCache().cachePrivate());
+
+        if (!isNull(booking.getLastModified())) {
+            builder.lastModified(booking.getLastModified().toInstant());
+        }
+
+        return builder;
+    }
+
+    private String getEntityTag(Booking booking) {
+        long lastModified = isNull(booking.getLastModified()) ? 0 : booking.getLastModified().getTime();
+        return "\"" + Long.toHexString(booking.getVersion()) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    private boolean matchesEntityTag(String ifNoneMatch, String entityTag) {
+        ETag current = ETag.create(entityTag);
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
 }
@@ -0,0 +1,242 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.OutboundEmailDao;
+import com.akkorhotel.hotel.model.OutboundEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+@EnableScheduling
+public class EmailOutboxService {
+
+    private static final String EMAIL_OUTBOX_METRIC = "akkorhotel.email.outbox";
+    private static final long CLAIM_LEASE = 300_000;
+    private static final long MAX_RETRY_BACKOFF = 3_600_000;
+    private static final long SENT_RETENTION = 604_800_000;
+
+    private final JavaMailSender javaMailSender;
+    private final OutboundEmailDao outboundEmailDao;
+    private final EnvConfiguration envConfiguration;
+    private final ExecutorService executor;
+    private final int workers;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong nextSendSlot = new AtomicLong(System.nanoTime());
+    private final AtomicReference<CompletableFuture<Void>> activeDrain = new AtomicReference<>(CompletableFuture.completedFuture(null));
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxService(JavaMailSender javaMailSender, OutboundEmailDao outboundEmailDao,
+                              EnvConfiguration envConfiguration, MeterRegistry meterRegistry) {
+        this.javaMailSender = javaMailSender;
+        this.outboundEmailDao = outboundEmailDao;
+        this.envConfiguration = envConfiguration;
+        this.workers = envConfiguration.getEmailOutboxWorkers();
+        this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("email-outbox-"));
+
+        this.sentCounter = Counter.builder(EMAIL_OUTBOX_METRIC + ".delivery")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder(EMAIL_OUTBOX_METRIC + ".delivery")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(EMAIL_OUTBOX_METRIC + ".delivery")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder(EMAIL_OUTBOX_METRIC + ".queue", queueDepth, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        outboundEmailDao.ensureIndexes();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${akkorhotel.properties.email-outbox-poll-interval:1000}")
+    public void dispatchPendingEmails() {
+        CompletableFuture<Void> previousDrain = activeDrain.get();
+        if (!previousDrain.isDone()) {
+            return;
+        }
+
+        try {
+            activeDrain.compareAndSet(previousDrain, drain());
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ Email outbox executor rejected the drain: {}", e.getMessage());
+        }
+    }
+
+    CompletableFuture<Void> drain() {
+        CompletableFuture<?>[] drains = IntStream.range(0, workers)
+                .mapToObj(worker -> CompletableFuture.runAsync(this::drainOutbox, executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(drains).thenRun(this::refreshQueueDepth);
+    }
+
+    private void refreshQueueDepth() {
+        try {
+            queueDepth.set(outboundEmailDao.countPending());
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Unable to read email outbox depth: {}", e.getMessage());
+        }
+    }
+
+    private void drainOutbox() {
+        try {
+            while (dispatchBatch() == envConfiguration.getEmailOutboxBatchSize()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Unable to drain email outbox: {}", e.getMessage());
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboundEmail> emails = claimBatch();
+        if (emails.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : emails) {
+            try {
+                messages.put(buildMessage(email), email);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                handleFailure(email, e.getMessage());
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return emails.size();
+        }
+
+        try {
+            awaitSendPermit(messages.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            messages.values().forEach(email -> outboundEmailDao.reschedule(email.getId(), new Date(), "Dispatch interrupted"));
+            return 0;
+        }
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            messages.values().forEach(this::handleDelivery);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            messages.forEach((message, email) -> {
+                if (failedMessages.isEmpty()) {
+                    handleFailure(email, e.getMessage());
+                } else if (failedMessages.containsKey(message)) {
+                    handleFailure(email, failedMessages.get(message).getMessage());
+                } else {
+                    handleDelivery(email);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(email -> handleFailure(email, e.getMessage()));
+        }
+
+        return emails.size();
+    }
+
+    private void awaitSendPermit(int messageCount) throws InterruptedException {
+        int maxSendRate = envConfiguration.getEmailOutboxMaxSendRate();
+        if (maxSendRate <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long cost = TimeUnit.SECONDS.toNanos(messageCount) / maxSendRate;
+        long slot = nextSendSlot.getAndAccumulate(cost, (previous, increment) -> Math.max(previous, now) + increment);
+
+        long wait = slot - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private List<OutboundEmail> claimBatch() {
+        Date now = new Date();
+        Date leaseExpiresAt = new Date(now.getTime() + CLAIM_LEASE);
+
+        List<OutboundEmail> emails = new ArrayList<>();
+        while (emails.size() < envConfiguration.getEmailOutboxBatchSize()) {
+            Optional<OutboundEmail> email = outboundEmailDao.claimNext(now, leaseExpiresAt);
+            if (email.isEmpty()) {
+                break;
+            }
+            emails.add(email.get());
+        }
+
+        return emails;
+    }
+
+    private MimeMessage buildMessage(OutboundEmail email) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "utf-8");
+
+        helper.setFrom(envConfiguration.getAppEmail(), envConfiguration.getMailModifiedUsername());
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+
+        return mimeMessage;
+    }
+
+    private void handleDelivery(OutboundEmail email) {
+        Date now = new Date();
+        outboundEmailDao.markSent(email.getId(), now, new Date(now.getTime() + SENT_RETENTION));
+        sentCounter.increment();
+    }
+
+    private void handleFailure(OutboundEmail email, String error) {
+        if (email.getAttempts() >= envConfiguration.getEmailOutboxMaxAttempts()) {
+            log.warn("⚠️ Giving up on email {} after {} attempts: {}", email.getId(), email.getAttempts(), error);
+            outboundEmailDao.markFailed(email.getId(), error);
+            failedCounter.increment();
+            return;
+        }
+
+        long backoff = envConfiguration.getEmailOutboxRetryBackoff() << Math.min(email.getAttempts() - 1, 20);
+        outboundEmailDao.reschedule(email.getId(), new Date(System.currentTimeMillis() + Math.min(backoff, MAX_RETRY_BACKOFF)), error);
+        retriedCounter.increment();
+    }
+
+}
@@ -1,40 +1,62 @@
 package com.akkorhotel.hotel.service;
 
-import com.akkorhotel.hotel.configuration.EnvConfiguration;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.akkorhotel.hotel.dao.OutboundEmailDao;
+import com.akkorhotel.hotel.model.OutboundEmail;
+import com.akkorhotel.hotel.model.OutboundEmailStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailSendException;
 import org.springframework.stereotype.Service;
 
-import java.io.UnsupportedEncodingException;
+import java.util.Date;
+import java.util.List;
 
 
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
-    private final EnvConfiguration envConfiguration;
+    private final OutboundEmailDao outboundEmailDao;
+    private final UuidProvider uuidProvider;
 
     public void sendEmail(String to, String subject, String body) {
         try {
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "utf-8");
+            outboundEmailDao.insert(buildOutboundEmail(uuidProvider.generateUuid(), to, subject, body, new Date()));
+        } catch (DataAccessException e) {
+            throw new MailSendException("Error queuing email: " + e.getMessage(), e);
+        }
+    }
+
+    public void sendEmails(List<OutboundEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
 
-            helper.setFrom(envConfiguration.getAppEmail(), envConfiguration.getMailModifiedUsername());
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body + getEmailSignature(), true);
+        Date now = new Date();
+        List<OutboundEmail> outboundEmails = emails.stream()
+                .map(email -> buildOutboundEmail(email.getId(), email.getTo(), email.getSubject(), email.getBody(), now))
+                .toList();
 
-            javaMailSender.send(mimeMessage);
-        } catch (MailException | MessagingException | UnsupportedEncodingException e) {
-            throw new RuntimeException("Error sending email: " + e.getMessage(), e);
+        try {
+            outboundEmailDao.insertAllIgnoringDuplicates(outboundEmails);
+        } catch (DataAccessException e) {
+            throw new MailSendException("Error queuing emails: " + e.getMessage(), e);
         }
     }
 
+    private static OutboundEmail buildOutboundEmail(String id, String to, String subject, String body, Date now) {
+        return OutboundEmail.builder()
+                .id(id)
+                .to(to)
+                .subject(subject)
+                .body(body + getEmailSignature())
+                .status(OutboundEmailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
     private static String getEmailSignature() {
         return "<br>"
                 + "<p>Cordialement,<br>"
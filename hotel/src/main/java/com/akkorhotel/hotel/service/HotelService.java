@@ -1,77 +1,216 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
 import com.akkorhotel.hotel.dao.HotelDao;
 import com.akkorhotel.hotel.model.Hotel;
 import com.akkorhotel.hotel.model.HotelRoom;
 import com.akkorhotel.hotel.model.request.GetHotelsFilter;
+import com.akkorhotel.hotel.model.request.GetHotelsFilters;
 import com.akkorhotel.hotel.model.request.GetHotelsRequest;
 import com.akkorhotel.hotel.model.response.GetAllHotelsHotelResponse;
 import com.akkorhotel.hotel.model.response.GetAllHotelsResponse;
 import com.akkorhotel.hotel.model.response.GetHotelResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasText;
 
 @Service
 @RequiredArgsConstructor
 public class HotelService {
 
     private final HotelDao hotelDao;
+    private final ImageService imageService;
+    private final EnvConfiguration envConfiguration;
+    private final ObjectMapper objectMapper;
+
+    private static final long SERIALIZED_HOTELS_MAX_BYTES = 32 * 1024 * 1024;
+
+    private final Cache<String, SerializedHotel> serializedHotels = Caffeine.newBuilder()
+            .maximumWeight(SERIALIZED_HOTELS_MAX_BYTES)
+            .weigher((String hotelId, SerializedHotel serializedHotel) -> serializedHotel.json().length)
+            .build();
+
+    public Mono<ResponseEntity<byte[]>> getHotel(String hotelId, String ifNoneMatch) {
+        return hotelDao.findVersionByIdReactive(hotelId)
+                .flatMap(version -> {
+                    String entityTag = getEntityTag(version);
+                    if (hasText(ifNoneMatch) && matchesEntityTag(ifNoneMatch, entityTag)) {
+                        return Mono.just(withValidators(HttpStatus.NOT_MODIFIED, version).<byte[]>build());
+                    }
 
-    public ResponseEntity<Map<String, GetHotelResponse>> getHotel(String hotelId) {
-        GetHotelResponse response = GetHotelResponse.builder().build();
+                    SerializedHotel serializedHotel = serializedHotels.getIfPresent(hotelId);
+                    if (!isNull(serializedHotel) && serializedHotel.entityTag().equals(entityTag)) {
+                        return Mono.just(withValidators(HttpStatus.OK, version).body(serializedHotel.json()));
+                    }
 
-        Optional<Hotel> optionalHotel = hotelDao.findById(hotelId);
-        if (optionalHotel.isEmpty()) {
-            response.setError("Hotel not found");
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(singletonMap("error", response));
-        }
+                    return findHotel(hotelId);
+                })
+                .switchIfEmpty(Mono.fromCallable(this::hotelNotFound));
+    }
+
+    private Mono<ResponseEntity<byte[]>> findHotel(String hotelId) {
+        return hotelDao.findByIdReactive(hotelId)
+                .flatMap(hotel -> Mono.fromCallable(() -> serializeHotel(hotel))
+                        .map(json -> withValidators(HttpStatus.OK, hotel).body(json)));
+    }
 
-        response.setHotel(optionalHotel.get());
+    private byte[] serializeHotel(Hotel hotel) throws JsonProcessingException {
+        GetHotelResponse response = GetHotelResponse.builder().build();
+        response.setHotel(hotel);
 
-        return ResponseEntity.ok(singletonMap("informations", response));
+        byte[] json = objectMapper.writeValueAsBytes(singletonMap("informations", response));
+        serializedHotels.put(hotel.getId(), new SerializedHotel(getEntityTag(hotel), json));
+        return json;
     }
 
-    public ResponseEntity<Map<String, GetAllHotelsResponse>> getHotels(GetHotelsRequest request) {
+    public Mono<ResponseEntity<Map<String, GetAllHotelsResponse>>> getHotels(GetHotelsRequest request) {
         GetAllHotelsResponse response = GetAllHotelsResponse.builder().build();
         request.setPageSize(getPageSizeValue(request.getPageSize()));
 
         String error = validateRequest(request);
         if (!isNull(error)) {
             response.setError(error);
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", response));
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", response)));
+        }
+
+        return hotelDao.countHotelsWithRequest(request.getFilters())
+                .flatMap(totalHotels -> {
+                    response.setHotelsFound(totalHotels);
+                    if (totalHotels == 0) {
+                        response.setError("No hotel found");
+                        return Mono.just(ResponseEntity.ok(singletonMap("informations", response)));
+                    }
+
+                    int totalPages = getTotalPages(totalHotels, request.getPageSize());
+                    response.setTotalPages(totalPages);
+
+                    if (request.getPage() > totalPages) {
+                        response.setError("Requested page exceeds the total number of available pages");
+                        return Mono.just(ResponseEntity.ok(singletonMap("warning", response)));
+                    }
+
+                    return hotelDao.searchHotelsByRequest(request)
+                            .collectList()
+                            .flatMap(hotels -> imageService.getListPictureUrls(getFirstPictures(hotels))
+                                    .map(listPictureUrls -> {
+                                        response.setHotels(buildGetAllHotelsResponse(hotels, listPictureUrls, request.getFilters().getGuests(), request.getFilters().getBedrooms(), request.getFilters().getMinPrice(), request.getFilters().getMaxPrice(), response, request.getPageSize()));
+                                        return ResponseEntity.ok(singletonMap("informations", response));
+                                    }));
+                });
+    }
+
+    public Mono<ResponseEntity<Map<String, GetAllHotelsResponse>>> searchHotels(GetHotelsRequest request, String queryString) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(envConfiguration.getHotelSearchCacheMaxAge())).cachePublic();
+
+        String canonicalQuery = getCanonicalSearchQuery(request);
+        if (!canonicalQuery.equals(Objects.toString(queryString, ""))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.MOVED_PERMANENTLY)
+                    .location(URI.create(canonicalQuery.isEmpty() ? "search" : "search?" + canonicalQuery))
+                    .cacheControl(cacheControl)
+                    .build());
         }
 
-        long totalHotels = hotelDao.countHotelsWithRequest(request.getFilters());
-        response.setHotelsFound(totalHotels);
-        if (totalHotels == 0) {
-            response.setError("No hotel found");
-            return ResponseEntity.ok(singletonMap("informations", response));
+        return getHotels(request)
+                .map(response -> response.getStatusCode() != HttpStatus.OK ? response : ResponseEntity.ok()
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                        .body(response.getBody()));
+    }
+
+    private String getCanonicalSearchQuery(GetHotelsRequest request) {
+        GetHotelsFilters filters = request.getFilters();
+        GetHotelsFilters defaults = new GetHotelsFilters();
+        List<String> parameters = new ArrayList<>();
+
+        if (filters.getBedrooms() != defaults.getBedrooms()) addSearchParameter(parameters, "bedrooms", filters.getBedrooms());
+        if (hasText(filters.getCity())) addSearchParameter(parameters, "city", filters.getCity().trim());
+        if (hasText(request.getFilter())) addSearchParameter(parameters, "filter", request.getFilter());
+        if (filters.isFiveStars()) addSearchParameter(parameters, "fiveStars", "true");
+        if (filters.isFourStars()) addSearchParameter(parameters, "fourStars", "true");
+        if (filters.getGuests() != defaults.getGuests()) addSearchParameter(parameters, "guests", filters.getGuests());
+        if (!isNull(filters.getHotelAmenities())) {
+            filters.getHotelAmenities().stream()
+                    .filter(StringUtils::hasText)
+                    .distinct()
+                    .sorted()
+                    .forEach(amenity -> addSearchParameter(parameters, "hotelAmenities", amenity));
         }
+        if (filters.getMaxPrice() != defaults.getMaxPrice()) addSearchParameter(parameters, "maxPrice", filters.getMaxPrice());
+        if (filters.getMinPrice() != defaults.getMinPrice()) addSearchParameter(parameters, "minPrice", filters.getMinPrice());
+        if (filters.isOneStar()) addSearchParameter(parameters, "oneStar", "true");
+        if (request.getPage() != 0) addSearchParameter(parameters, "page", request.getPage());
+        if (request.getPageSize() != 0) addSearchParameter(parameters, "pageSize", request.getPageSize());
+        if (filters.isThreeStars()) addSearchParameter(parameters, "threeStars", "true");
+        if (filters.isTwoStars()) addSearchParameter(parameters, "twoStars", "true");
+
+        return String.join("&", parameters);
+    }
 
-        int totalPages = getTotalPages(totalHotels, request.getPageSize());
-        response.setTotalPages(totalPages);
+    private void addSearchParameter(List<String> parameters, String name, Object value) {
+        parameters.add(name + "=" + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<byte[]> hotelNotFound() throws JsonProcessingException {
+        GetHotelResponse response = GetHotelResponse.builder().build();
+        response.setError("Hotel not found");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(singletonMap("error", response)));
+    }
 
-        if (request.getPage() > totalPages) {
-            response.setError("Requested page exceeds the total number of available pages");
-            return ResponseEntity.ok(singletonMap("warning", response));
+    private ResponseEntity.BodyBuilder withValidators(HttpStatus status, Hotel hotel) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(getEntityTag(hotel))
+                .cacheControl(CacheControl.noCache());
+
+        if (!isNull(hotel.getLastModified())) {
+            builder.lastModified(hotel.getLastModified().toInstant());
         }
 
-        List<Hotel> hotels = hotelDao.searchHotelsByRequest(request);
+        return builder;
+    }
+
+    private String getEntityTag(Hotel hotel) {
+        long lastModified = isNull(hotel.getLastModified()) ? 0 : hotel.getLastModified().getTime();
+        return "\"" + Long.toHexString(hotel.getVersion()) + "-" + Long.toHexString(lastModified) + "\"";
+    }
 
-        response.setHotels(buildGetAllHotelsResponse(hotels, request.getFilters().getGuests(), request.getFilters().getBedrooms(), request.getFilters().getMinPrice(), request.getFilters().getMaxPrice(), response, request.getPageSize()));
+    private boolean matchesEntityTag(String ifNoneMatch, String entityTag) {
+        ETag current = ETag.create(entityTag);
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
 
-        return ResponseEntity.ok(singletonMap("informations", response));
+    private Set<String> getFirstPictures(List<Hotel> hotels) {
+        return hotels.stream()
+                .map(hotel -> hotel.getPicture_list().get(0))
+                .collect(Collectors.toSet());
     }
 
     private List<GetAllHotelsHotelResponse> buildGetAllHotelsResponse(
-            List<Hotel> hotels, int guests, int bedrooms, int minPrice, int maxPrice, GetAllHotelsResponse response, int pageSize) {
+            List<Hotel> hotels, Map<String, String> listPictureUrls, int guests, int bedrooms, int minPrice, int maxPrice, GetAllHotelsResponse response, int pageSize) {
 
         return hotels.stream()
                 .map(hotel -> {
@@ -84,7 +223,7 @@ public class HotelService {
                                 .price(hotelMinPrice)
                                 .address(hotel.getLocation().getAddress())
                                 .googleMapUrl(hotel.getLocation().getGoogleMapsUrl())
-                                .firstPicture(hotel.getPicture_list().get(0))
+                                .firstPicture(listPictureUrls.getOrDefault(hotel.getPicture_list().get(0), hotel.getPicture_list().get(0)))
                                 .name(hotel.getName())
                                 .stars(hotel.getStars())
                                 .build();
@@ -172,4 +311,7 @@ public class HotelService {
     private int getTotalPages(long totalUsers, int pageSize) {
         return (int) Math.ceil((double) totalUsers / pageSize);
     }
+
+    private record SerializedHotel(String entityTag, byte[] json) {
+    }
 }
@@ -1,26 +1,74 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
 import com.akkorhotel.hotel.dao.ImageDao;
+import com.akkorhotel.hotel.dao.ImageStorage;
 import com.akkorhotel.hotel.model.Image;
 import com.akkorhotel.hotel.model.ImageCategory;
 import com.akkorhotel.hotel.model.ImageExtension;
+import com.akkorhotel.hotel.model.ImageVariant;
+import com.akkorhotel.hotel.model.StoredImage;
+import com.akkorhotel.hotel.utils.ImageInspector;
+import com.akkorhotel.hotel.utils.ImageVariantGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.util.StringUtils.hasText;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class ImageService {
 
     private final ImageDao imageDao;
+    private final ImageStorage imageStorage;
     private final UuidProvider uuidProvider;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageInspector imageInspector;
+    private final EnvConfiguration envConfiguration;
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    private static final String IMAGE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SVG_CONTENT_TYPE = "image/svg+xml";
 
     public String getImageUrlById(String imageId) {
         Optional<Image> optionalImage = imageDao.findById(imageId);
         return optionalImage.map(Image::getUrl).orElse(null);
     }
 
+    public Map<String, String> getImageUrlsByIds(Collection<String> imageIds) {
+        if (imageIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return imageDao.findAllByIds(imageIds).stream()
+                .filter(image -> nonNull(image.getUrl()))
+                .collect(Collectors.toMap(Image::getId, Image::getUrl, (first, second) -> first));
+    }
+
     public ImageExtension getImageExtension(String filename) {
         return Optional.ofNullable(filename)
                 .filter(f -> f.contains("."))
@@ -35,6 +83,10 @@ public class ImageService {
                 .orElse(null);
     }
 
+    public String validateUploadedImage(MultipartFile file, ImageExtension declaredExtension) {
+        return imageInspector.inspect(file, declaredExtension);
+    }
+
     public void saveNewImage(ImageCategory category, String filename, String url, ImageExtension extension, String userId) {
         Image image = Image.builder()
                 .id(uuidProvider.generateUuid())
@@ -48,4 +100,145 @@ public class ImageService {
         imageDao.save(image);
     }
 
+    public Map<String, String> getUrlsByContentHashes(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return Map.of();
+        }
+
+        return imageDao.findByContentHashes(contentHashes).stream()
+                .collect(Collectors.toMap(Image::getContentHash, Image::getUrl, (first, second) -> first));
+    }
+
+    public void generateVariants(List<Image> images, List<MultipartFile> sources) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        imageVariantGenerator.generateVariants(sources)
+                .thenAccept(variants -> attachVariants(images, variants))
+                .exceptionally(e -> {
+                    log.warn("⚠️ Failed to attach image variants: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    private void attachVariants(List<Image> images, List<Map<ImageVariant, String>> variants) {
+        for (int i = 0; i < images.size(); i++) {
+            if (!variants.get(i).isEmpty()) {
+                images.get(i).setVariants(variants.get(i));
+                imageDao.saveVariants(images.get(i));
+            }
+        }
+    }
+
+    public Mono<Map<String, String>> getListPictureUrls(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        int minimumWidth = envConfiguration.getHotelListPictureWidth();
+        return imageDao.findVariantsByUrls(urls)
+                .flatMap(image -> Mono.justOrEmpty(getSmallestAdequateVariantUrl(image.getVariants(), minimumWidth))
+                        .map(variantUrl -> Map.entry(image.getUrl(), variantUrl)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    public void saveNewImages(List<Image> images) {
+        images.forEach(image -> image.setId(uuidProvider.generateUuid()));
+        imageDao.insertAll(images);
+    }
+
+    public void serveStoredImage(String name, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<StoredImage> optionalImage = imageStorage.find(name);
+        if (optionalImage.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "Image not found");
+            return;
+        }
+
+        StoredImage image = optionalImage.get();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMAGE_CACHE_CONTROL);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "sandbox; default-src 'none'; style-src 'unsafe-inline'");
+
+        if (SVG_CONTENT_TYPE.equals(image.getContentType())) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name).build().toString());
+        }
+
+        if (new ServletWebRequest(request, response).checkNotModified(image.getEtag(), image.getLastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long end = image.getSize() - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (hasText(range) && isIfRangeSatisfied(request, image)) {
+            List<HttpRange> ranges = parseRanges(range);
+            if (ranges.size() == 1) {
+                start = ranges.getFirst().getRangeStart(image.getSize());
+                end = ranges.getFirst().getRangeEnd(image.getSize());
+            }
+
+            if (ranges.isEmpty() || start >= image.getSize() || end < start) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.getSize());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + image.getSize());
+            }
+        }
+
+        response.setContentType(image.getContentType());
+        response.setContentLengthLong(end - start + 1);
+
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, image.getPath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long transferred;
+            while (position <= end && (transferred = channel.transferTo(position, end + 1 - position, output)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    private static String getSmallestAdequateVariantUrl(Map<ImageVariant, String> variants, int minimumWidth) {
+        if (isNull(variants)) {
+            return null;
+        }
+
+        return Arrays.stream(ImageVariant.values())
+                .filter(variant -> variant.getMaxWidth() >= minimumWidth && variants.containsKey(variant))
+                .min(Comparator.comparingInt(ImageVariant::getMaxWidth))
+                .map(variants::get)
+                .orElse(null);
+    }
+
+    private List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, StoredImage image) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return !hasText(ifRange) || ifRange.equals(image.getEtag());
+    }
+
 }
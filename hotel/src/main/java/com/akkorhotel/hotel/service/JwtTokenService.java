@@ -1,44 +1,125 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
+import com.akkorhotel.hotel.model.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.isNull;
 import static org.springframework.util.StringUtils.hasText;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenService {
 
-    public static final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS512);
     private static final long TOKEN_EXPIRATION_TIME = 172_800_000;
+    private static final long ACCESS_TOKEN_EXPIRATION_TIME = 900;
+    private static final long REFRESH_TOKEN_EXPIRATION_TIME = 2_592_000;
+    private static final long VERIFIED_TOKENS_MAX_SIZE = 10_000;
+    private static final long VERIFIED_TOKENS_MAX_TTL = TimeUnit.MINUTES.toNanos(15);
+
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtParser jwtParser;
+
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKENS_MAX_SIZE)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
+
+    public JwtTokenService(JwtKeyRing jwtKeyRing) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(jwtKeyRing).build();
+    }
 
-    public String generateToken(String userId) {
+    public String generateToken(String userId, UserRole role, long tokenVersion) {
         Instant now = Instant.now();
-        Date expiryDate = Date.from(now.plusSeconds(TOKEN_EXPIRATION_TIME));
+        Date expiryDate = Date.from(now.plusSeconds(ACCESS_TOKEN_EXPIRATION_TIME));
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
                 .setSubject(userId)
+                .setId(UUID.randomUUID().toString())
                 .claim("type", "access")
+                .claim("role", role.name())
+                .claim("ver", tokenVersion)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(expiryDate)
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    public String generateRefreshToken(String userId, long tokenVersion) {
+        Instant now = Instant.now();
+        Date expiryDate = Date.from(now.plusSeconds(REFRESH_TOKEN_EXPIRATION_TIME));
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .setSubject(userId)
+                .setId(UUID.randomUUID().toString())
+                .claim("type", "refresh")
+                .claim("ver", tokenVersion)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(expiryDate)
-                .signWith(SECRET_KEY, SignatureAlgorithm.HS512)
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    public Claims resolveRefreshTokenClaims(String token) {
+        if (!hasText(token)) {
+            return null;
+        }
+
+        Claims claims = parseTokenClaims(token);
+        if (isNull(claims) || !"refresh".equals(claims.get("type")) || !isTokenNotExpired(claims)) {
+            return null;
+        }
+
+        return claims;
+    }
+
+    public boolean isAccessToken(Claims claims) {
+        return "access".equals(claims.get("type"));
+    }
+
     public String resolveUserIdFromRequest(HttpServletRequest request) {
-        String token = verifyTokenFormat(request);
-        return token == null ? null : resolveUserIdFromToken(token);
+        Claims claims = resolveClaimsFromRequest(request);
+        return isNull(claims) ? null : claims.getSubject();
+    }
+
+    public Claims resolveClaimsFromRequest(HttpServletRequest request) {
+        String token = resolveBearerToken(request);
+        return isNull(token) ? null : parseTokenClaims(token);
+    }
+
+    public UserRole resolveRole(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (isNull(role)) {
+            return null;
+        }
+
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public long resolveTokenVersion(Claims claims) {
+        Number tokenVersion = claims.get("ver", Number.class);
+        return isNull(tokenVersion) ? 0L : tokenVersion.longValue();
     }
 
     public String generateEmailConfirmationToken(String userId) {
@@ -46,16 +127,17 @@ public class JwtTokenService {
         Date expiryDate = Date.from(now.plusSeconds(TOKEN_EXPIRATION_TIME));
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
                 .setSubject(userId)
                 .claim("type", "email_confirmation")
                 .setIssuedAt(Date.from(now))
                 .setExpiration(expiryDate)
-                .signWith(SECRET_KEY, SignatureAlgorithm.HS512)
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String resolveUserIdFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(SECRET_KEY).build().parseClaimsJws(token).getBody().getSubject();
+        return getVerifiedClaims(token).getSubject();
     }
 
     public boolean isEmailTokenValid(String token) {
@@ -73,16 +155,24 @@ public class JwtTokenService {
 
     private Claims parseTokenClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return getVerifiedClaims(token);
         } catch (Exception e) {
             return null;
         }
     }
 
+    private Claims getVerifiedClaims(String token) {
+        Claims cachedClaims = verifiedTokens.getIfPresent(token);
+        if (!isNull(cachedClaims) && isTokenNotExpired(cachedClaims)) {
+            return cachedClaims;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(token, claims);
+
+        return claims;
+    }
+
     private boolean isEmailConfirmationToken(Claims claims) {
         return "email_confirmation".equals(claims.get("type"));
     }
@@ -92,24 +182,37 @@ public class JwtTokenService {
         return expirationDate != null && expirationDate.after(new Date());
     }
 
-    private String verifyTokenFormat(HttpServletRequest request) {
+    private String resolveBearerToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         if (!hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
             return null;
         }
 
-        String token = bearerToken.substring(7);
-        return isValidTokenFormat(token) ? token : null;
+        return bearerToken.substring(7);
     }
 
-    private boolean isValidTokenFormat(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(SECRET_KEY).build().parseClaimsJws(token);
+    private static class VerifiedTokenExpiry implements Expiry<String, Claims> {
 
-            return true;
-        } catch (Exception exception) {
-            return false;
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expirationDate = claims.getExpiration();
+            if (isNull(expirationDate)) {
+                return VERIFIED_TOKENS_MAX_TTL;
+            }
+
+            long remaining = TimeUnit.MILLISECONDS.toNanos(expirationDate.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remaining, VERIFIED_TOKENS_MAX_TTL));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 
@@ -1,53 +1,140 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.RateLimitPolicy;
+import com.akkorhotel.hotel.dao.RateLimitStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
 @EnableScheduling
 public class RateLimitingService {
 
-    private final Map<String, Integer> requestCounts = new ConcurrentHashMap<>();
-    private final Map<String, Long> blockExpirations = new ConcurrentHashMap<>();
+    private static final long WINDOW_DURATION = TimeUnit.MINUTES.toMillis(1);
+    private static final long REFILL_PERIOD = TimeUnit.MINUTES.toNanos(1);
+    private static final long BLOCK_DURATION = TimeUnit.MINUTES.toNanos(10);
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
 
-    private static final int MAX_REQUESTS = 60;
-    private static final long BLOCK_DURATION = 600000;
+    private final RateLimitStore rateLimitStore;
 
-    public boolean isIpBlocked(String ipAddress) {
-        return blockExpirations.containsKey(ipAddress) &&
-                blockExpirations.get(ipAddress) > System.currentTimeMillis();
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_CLIENTS)
+            .expireAfterAccess(BLOCK_DURATION, TimeUnit.NANOSECONDS)
+            .build();
+
+    private final Cache<String, WindowCount> clusterCounts = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_CLIENTS)
+            .expireAfterWrite(WINDOW_DURATION, TimeUnit.MILLISECONDS)
+            .build();
+
+    private final Map<String, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public RateLimitingService(RateLimitStore rateLimitStore) {
+        this.rateLimitStore = rateLimitStore;
+    }
+
+    public boolean tryConsume(RateLimitPolicy policy, String principal) {
+        long now = System.nanoTime();
+        String bucketKey = policy.getName() + ":" + principal;
+        TokenBucket bucket = buckets.get(bucketKey, key -> new TokenBucket(policy.getCapacity(), now));
+        if (!bucket.tryConsume(policy.getCost(), now)) {
+            return false;
+        }
+
+        long pendingCount = pendingCounts.merge(bucketKey, (long) policy.getCost(), Long::sum);
+        if (getClusterCount(bucketKey) + pendingCount > policy.getCapacity()) {
+            bucket.block(now);
+            return false;
+        }
+
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${akkorhotel.properties.rate-limit-sync-interval:250}")
+    public void synchronizeRequestCounts() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> deltas = new HashMap<>();
+        for (String key : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(key);
+            if (delta != null) {
+                deltas.put(key, delta);
+            }
+        }
+
+        long window = currentWindow();
+        try {
+            rateLimitStore.incrementAll(window, deltas)
+                    .forEach((key, total) -> clusterCounts.put(key, new WindowCount(window, total)));
+        } catch (RuntimeException e) {
+            if (pendingCounts.size() < MAX_TRACKED_CLIENTS) {
+                deltas.forEach((key, delta) -> pendingCounts.merge(key, delta, Long::sum));
+            }
+            log.warn("⚠️ Failed to synchronize rate limit counts: {}", e.getMessage());
+        }
     }
 
-    public boolean incrementAndCheckLimit(String ipAddress) {
-        int count = requestCounts.getOrDefault(ipAddress, 0) + 1;
-        requestCounts.put(ipAddress, count);
-        return count > MAX_REQUESTS;
+    private long getClusterCount(String bucketKey) {
+        WindowCount windowCount = clusterCounts.getIfPresent(bucketKey);
+        return windowCount == null || windowCount.window() != currentWindow() ? 0 : windowCount.count();
     }
 
-    public void blockIpAddress(String ipAddress) {
-        blockExpirations.put(ipAddress, System.currentTimeMillis() + BLOCK_DURATION);
+    private static long currentWindow() {
+        return System.currentTimeMillis() / WINDOW_DURATION;
     }
 
-    public void resetRequestCounts() {
-        requestCounts.clear();
-        blockExpirations.clear();
+    private record WindowCount(long window, long count) {
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void scheduledReset() {
-        int blockedIpCount = blockExpirations.size();
-        int requestCountSize = requestCounts.size();
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillRate;
+        private final AtomicReference<State> state;
+
+        private TokenBucket(int capacity, long now) {
+            this.capacity = capacity;
+            this.refillRate = (double) capacity / REFILL_PERIOD;
+            this.state = new AtomicReference<>(new State(capacity, now, now));
+        }
+
+        private boolean tryConsume(int cost, long now) {
+            while (true) {
+                State current = state.get();
+                if (current.blockedUntil() - now > 0) {
+                    return false;
+                }
+
+                long refillTime = Math.max(now, current.lastRefill());
+                double tokens = Math.min(capacity, current.tokens() + (refillTime - current.lastRefill()) * refillRate);
+                State next = tokens >= cost
+                        ? new State(tokens - cost, refillTime, now)
+                        : new State(tokens, refillTime, now + BLOCK_DURATION);
+
+                if (state.compareAndSet(current, next)) {
+                    return tokens >= cost;
+                }
+            }
+        }
 
-        resetRequestCounts();
+        private void block(long now) {
+            state.updateAndGet(current -> new State(current.tokens(), current.lastRefill(), now + BLOCK_DURATION));
+        }
 
-        log.info("🔄 Rate limit reset at: {} | {} IP(s) unblocked | {} request count(s) reset",
-                System.currentTimeMillis(), blockedIpCount, requestCountSize);
+        private record State(double tokens, long lastRefill, long blockedUntil) {
+        }
     }
 
 }
@@ -0,0 +1,123 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.dao.RevokedTokenDao;
+import com.akkorhotel.hotel.model.RevokedToken;
+import com.akkorhotel.hotel.utils.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.Objects.isNull;
+
+@Service
+@Slf4j
+@EnableScheduling
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenDao revokedTokenDao;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final ReadWriteLock revokedTokensFilterLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter revokedTokensFilter = newFilter();
+    private volatile Date lastSynchronization = new Date(0);
+
+    private static final long BLOOM_FILTER_EXPECTED_INSERTIONS = 100_000;
+    private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final long SYNCHRONIZATION_OVERLAP = 60000;
+
+    @PostConstruct
+    public void initialize() {
+        revokedTokenDao.ensureIndexes();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (isNull(tokenId) || !revokedTokensFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    public void revoke(String tokenId, String userId, Date expiresAt) {
+        revokedTokenDao.save(buildRevokedToken(tokenId, userId, expiresAt));
+
+        register(tokenId, expiresAt);
+    }
+
+    public boolean tryRevoke(String tokenId, String userId, Date expiresAt) {
+        try {
+            revokedTokenDao.insert(buildRevokedToken(tokenId, userId, expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        } finally {
+            register(tokenId, expiresAt);
+        }
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void synchronizeRevokedTokens() {
+        Date synchronizationDate = new Date();
+        Date since = new Date(lastSynchronization.getTime() - SYNCHRONIZATION_OVERLAP);
+
+        List<RevokedToken> revokedSince = revokedTokenDao.findRevokedSince(since);
+        revokedSince.forEach(revokedToken -> register(revokedToken.getId(), revokedToken.getExpiresAt()));
+
+        lastSynchronization = synchronizationDate;
+
+        if (!revokedSince.isEmpty()) {
+            log.debug("🔄 Revoked tokens synchronized at: {} | {} token(s) revoked", synchronizationDate.getTime(), revokedSince.size());
+        }
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void purgeExpiredTokens() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+        revokedTokensFilterLock.writeLock().lock();
+        try {
+            BloomFilter rebuiltFilter = newFilter();
+            revokedTokens.keySet().forEach(rebuiltFilter::put);
+            revokedTokensFilter = rebuiltFilter;
+        } finally {
+            revokedTokensFilterLock.writeLock().unlock();
+        }
+    }
+
+    private void register(String tokenId, Date expiresAt) {
+        revokedTokensFilterLock.readLock().lock();
+        try {
+            revokedTokens.put(tokenId, isNull(expiresAt) ? Long.MAX_VALUE : expiresAt.getTime());
+            revokedTokensFilter.put(tokenId);
+        } finally {
+            revokedTokensFilterLock.readLock().unlock();
+        }
+    }
+
+    private static RevokedToken buildRevokedToken(String tokenId, String userId, Date expiresAt) {
+        return RevokedToken.builder()
+                .id(tokenId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .revokedAt(new Date())
+                .build();
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(BLOOM_FILTER_EXPECTED_INSERTIONS, BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY);
+    }
+
+}
@@ -9,9 +9,9 @@ import com.akkorhotel.hotel.model.response.GetAuthenticatedUserResponse;
 import com.akkorhotel.hotel.utils.ImageUtils;
 import com.akkorhotel.hotel.utils.UserUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
@@ -29,9 +30,10 @@ public class UserService {
 
     private final UserDao userDao;
     private final UserUtils userUtils;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final ImageUtils imageUtils;
     private final ImageService imageService;
+    private final UserTokenVersionService userTokenVersionService;
 
     public ResponseEntity<Map<String, GetAuthenticatedUserResponse>> getAuthenticatedUser(User authenticatedUser) {
         GetAuthenticatedUserResponse authenticatedUserResponse = GetAuthenticatedUserResponse.builder()
@@ -51,14 +53,22 @@ public class UserService {
         if (errors.isEmpty()) {
             validateNewUsername(errors, request.getUsername(), authenticatedUser);
             validateNewEmail(errors, request.getEmail(), authenticatedUser);
-            validateNewPassword(errors, request.getOldPassword(), request.getNewPassword(), authenticatedUser);
+            try {
+                validateNewPassword(errors, request.getOldPassword(), request.getNewPassword(), authenticatedUser);
+            } catch (RejectedExecutionException e) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(singletonMap("error", "Too many authentication requests. Please try again later."));
+            }
         }
 
         if (!errors.isEmpty()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("errors", userUtils.getErrorsAsString(errors)));
         }
 
-        userDao.save(authenticatedUser);
+        try {
+            userDao.save(authenticatedUser);
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("errors", userUtils.getErrorsAsString(getDuplicateKeyErrors(e))));
+        }
 
         String error = userUtils.sendRegisterConfirmationEmail(authenticatedUser);
         if (!isNull(error)) {
@@ -70,6 +80,7 @@ public class UserService {
 
     public ResponseEntity<Map<String, String>> deleteUser(String authenticatedUserId) {
         userDao.delete(authenticatedUserId);
+        userTokenVersionService.revokeTokens(authenticatedUserId);
 
         return ResponseEntity.ok(singletonMap("message", "User deleted successfully"));
     }
@@ -84,6 +95,11 @@ public class UserService {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", "Unsupported image format"));
         }
 
+        String imageError = imageService.validateUploadedImage(file, extension);
+        if (imageError != null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(singletonMap("error", imageError));
+        }
+
         String filename = authenticatedUser.getUsername() + "-" + authenticatedUser.getId() + "." + extension.name().toLowerCase();
 
         String url = imageUtils.uploadImage(file);
@@ -99,6 +115,21 @@ public class UserService {
         return ResponseEntity.ok(singletonMap("message", "Profile image uploaded successfully"));
     }
 
+    private List<String> getDuplicateKeyErrors(DuplicateKeyException exception) {
+        List<String> errors = new ArrayList<>();
+        if (userDao.isDuplicateUsername(exception)) {
+            errors.add("Username already taken: Please choose a different one.");
+        }
+        if (userDao.isDuplicateEmail(exception)) {
+            errors.add("This email is already used.");
+        }
+        if (errors.isEmpty()) {
+            errors.add("Username or email already in use.");
+        }
+
+        return errors;
+    }
+
     private void validateRequest(List<String> errors, UpdateUserRequest request) {
         if (isNull(request.getEmail()) && isNull(request.getUsername()) && isNull(request.getNewPassword())) {
             errors.add("No values provided for update. Please specify at least one field (email, username or new password).");
@@ -111,10 +142,6 @@ public class UserService {
                 errors.add("Invalid username: Must be 3-11 characters and cannot contain spaces.");
             }
 
-            if (userDao.isUsernameAlreadyUsed(username)) {
-                errors.add("Username already taken: Please choose a different one.");
-            }
-
             if (username.equals(userToUpdate.getUsername())) {
                 errors.add("Username cannot be the same as the current one.");
             }
@@ -129,10 +156,6 @@ public class UserService {
                 errors.add("Invalid email format.");
             }
 
-            if (userDao.isEmailAlreadyUsed(email)) {
-                errors.add("This email is already used.");
-            }
-
             if (email.equals(userToUpdate.getEmail())) {
                 errors.add("The new email address must be different from the current one.");
             }
@@ -148,15 +171,15 @@ public class UserService {
                 errors.add("The new password does not meet the required criteria.");
             }
 
-            if (passwordEncoder.matches(newPassword, userToUpdate.getPassword())) {
+            if (passwordHashingService.matches(newPassword, userToUpdate.getPassword())) {
                 errors.add("New password must be different from the old password.");
             }
 
-            if (!passwordEncoder.matches(oldPassword, userToUpdate.getPassword())) {
+            if (!passwordHashingService.matches(oldPassword, userToUpdate.getPassword())) {
                 errors.add("Old password is incorrect.");
             }
 
-            userToUpdate.setPassword(passwordEncoder.encode(newPassword));
+            userToUpdate.setPassword(passwordHashingService.encode(newPassword));
         }
     }
 
@@ -0,0 +1,67 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.dao.UserTokenVersionDao;
+import com.akkorhotel.hotel.model.UserTokenVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+@EnableScheduling
+@RequiredArgsConstructor
+public class UserTokenVersionService {
+
+    private final UserTokenVersionDao userTokenVersionDao;
+
+    private final Map<String, Long> tokenVersions = new ConcurrentHashMap<>();
+    private volatile Date lastSynchronization = new Date(0);
+
+    private static final long SYNCHRONIZATION_OVERLAP = 60000;
+
+    public boolean isTokenVersionValid(String userId, long tokenVersion) {
+        return tokenVersion >= tokenVersions.getOrDefault(userId, 0L);
+    }
+
+    public long loadCurrentVersion(String userId) {
+        long version = userTokenVersionDao.findById(userId)
+                .map(UserTokenVersion::getVersion)
+                .orElse(0L);
+
+        return tokenVersions.merge(userId, version, Math::max);
+    }
+
+    public void incrementVersion(String userId) {
+        UserTokenVersion userTokenVersion = userTokenVersionDao.incrementVersion(userId);
+        tokenVersions.merge(userId, userTokenVersion.getVersion(), Math::max);
+    }
+
+    public void revokeTokens(String userId) {
+        userTokenVersionDao.revoke(userId);
+        tokenVersions.put(userId, UserTokenVersion.REVOKED_VERSION);
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void synchronizeTokenVersions() {
+        Date synchronizationDate = new Date();
+        Date since = new Date(lastSynchronization.getTime() - SYNCHRONIZATION_OVERLAP);
+
+        List<UserTokenVersion> updatedVersions = userTokenVersionDao.findUpdatedSince(since);
+        updatedVersions.forEach(userTokenVersion ->
+                tokenVersions.merge(userTokenVersion.getId(), userTokenVersion.getVersion(), Math::max));
+
+        lastSynchronization = synchronizationDate;
+
+        if (!updatedVersions.isEmpty()) {
+            log.debug("🔄 Token versions synchronized at: {} | {} user(s) updated", synchronizationDate.getTime(), updatedVersions.size());
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.akkorhotel.hotel.utils;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.model.ImageExtension;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class ImageInspector {
+
+    private static final int HEADER_SIZE = 512;
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final long maxSize;
+    private final int maxDimension;
+
+    public ImageInspector(EnvConfiguration envConfiguration) {
+        this.maxSize = envConfiguration.getImageMaxSize();
+        this.maxDimension = envConfiguration.getImageMaxDimension();
+    }
+
+    public String inspect(MultipartFile file, ImageExtension declaredExtension) {
+        if (file.isEmpty()) {
+            return "Empty picture";
+        }
+
+        if (file.getSize() > maxSize) {
+            return "Picture exceeds the maximum size of " + maxSize + " bytes";
+        }
+
+        try (DataInputStream content = new DataInputStream(new BufferedInputStream(file.getInputStream(), HEADER_SIZE))) {
+            content.mark(HEADER_SIZE);
+            byte[] header = content.readNBytes(HEADER_SIZE);
+            content.reset();
+
+            ImageExtension detectedExtension = detectExtension(header);
+            if (isNull(detectedExtension)) {
+                return "Unrecognized picture content";
+            }
+
+            if (detectedExtension == ImageExtension.svg || declaredExtension == ImageExtension.svg) {
+                return "SVG pictures are not supported";
+            }
+
+            if (detectedExtension != normalize(declaredExtension)) {
+                return "Picture content does not match its " + declaredExtension.name() + " extension";
+            }
+
+            Dimension dimension = readDimension(detectedExtension, header, content);
+            if (isNull(dimension) || dimension.width() <= 0 || dimension.height() <= 0) {
+                return "Corrupt picture";
+            }
+
+            if (dimension.width() > maxDimension || dimension.height() > maxDimension) {
+                return "Picture dimensions exceed " + maxDimension + "x" + maxDimension + " pixels";
+            }
+
+            return null;
+        } catch (IOException e) {
+            return "Corrupt picture";
+        }
+    }
+
+    private static ImageExtension detectExtension(byte[] header) {
+        if (startsWith(header, 0, JPEG_SIGNATURE)) {
+            return ImageExtension.jpg;
+        }
+
+        if (startsWith(header, 0, PNG_SIGNATURE)) {
+            return ImageExtension.png;
+        }
+
+        if (startsWith(header, 0, ascii("RIFF")) && startsWith(header, 8, ascii("WEBP"))) {
+            return ImageExtension.webp;
+        }
+
+        String text = new String(header, StandardCharsets.ISO_8859_1).replace("\u00EF\u00BB\u00BF", "").stripLeading();
+        if (text.startsWith("<") && text.contains("<svg")) {
+            return ImageExtension.svg;
+        }
+
+        return null;
+    }
+
+    private static ImageExtension normalize(ImageExtension extension) {
+        return extension == ImageExtension.jpeg ? ImageExtension.jpg : extension;
+    }
+
+    private static Dimension readDimension(ImageExtension extension, byte[] header, DataInputStream content) throws IOException {
+        return switch (extension) {
+            case png -> readPngDimension(header);
+            case webp -> readWebpDimension(header);
+            default -> readJpegDimension(content);
+        };
+    }
+
+    private static Dimension readPngDimension(byte[] header) {
+        if (header.length < 24 || !startsWith(header, 12, ascii("IHDR"))) {
+            return null;
+        }
+
+        return new Dimension(readIntBigEndian(header, 16), readIntBigEndian(header, 20));
+    }
+
+    private static Dimension readWebpDimension(byte[] header) {
+        if (header.length < 30) {
+            return null;
+        }
+
+        if (startsWith(header, 12, ascii("VP8X"))) {
+            return new Dimension(1 + readInt24LittleEndian(header, 24), 1 + readInt24LittleEndian(header, 27));
+        }
+
+        if (startsWith(header, 12, ascii("VP8L")) && header[20] == 0x2F) {
+            int bits = (header[21] & 0xFF) | (header[22] & 0xFF) << 8 | (header[23] & 0xFF) << 16 | (header[24] & 0xFF) << 24;
+            return new Dimension(1 + (bits & 0x3FFF), 1 + (bits >> 14 & 0x3FFF));
+        }
+
+        if (startsWith(header, 12, ascii("VP8 ")) && startsWith(header, 23, new byte[]{(byte) 0x9D, 0x01, 0x2A})) {
+            return new Dimension(readInt16LittleEndian(header, 26) & 0x3FFF, readInt16LittleEndian(header, 28) & 0x3FFF);
+        }
+
+        return null;
+    }
+
+    private static Dimension readJpegDimension(DataInputStream content) throws IOException {
+        content.skipNBytes(2);
+
+        while (true) {
+            if (content.readUnsignedByte() != 0xFF) {
+                return null;
+            }
+
+            int marker = content.readUnsignedByte();
+            while (marker == 0xFF) {
+                marker = content.readUnsignedByte();
+            }
+
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+
+            int length = content.readUnsignedShort();
+            if (length < 2) {
+                return null;
+            }
+
+            if (isStartOfFrame(marker)) {
+                content.readUnsignedByte();
+                int height = content.readUnsignedShort();
+                int width = content.readUnsignedShort();
+                return new Dimension(width, height);
+            }
+
+            content.skipNBytes(length - 2);
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] prefix) {
+        return bytes.length >= offset + prefix.length
+                && Arrays.equals(bytes, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int readIntBigEndian(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static int readInt24LittleEndian(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16;
+    }
+
+    private static int readInt16LittleEndian(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8;
+    }
+
+    private record Dimension(int width, int height) {
+    }
+
+}
@@ -1,28 +1,140 @@
 package com.akkorhotel.hotel.utils;
 
 import com.akkorhotel.hotel.configuration.EnvConfiguration;
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.akkorhotel.hotel.dao.ImageStorage;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static java.util.Objects.isNull;
+
+@Slf4j
 @Component
 public class ImageUtils {
 
-    private final Cloudinary cloudinary;
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BUFFER_SIZE = 8192;
+    private static final long UPLOAD_TERMINATION_TIMEOUT = 5000;
+    private static final String EXPIRED_UPLOAD = "";
+
+    private final ImageStorage imageStorage;
+    private final int uploadConcurrency;
+    private final long uploadTimeout;
 
-    @Autowired
-    public ImageUtils(EnvConfiguration envConfiguration) {
-        this.cloudinary = new Cloudinary(envConfiguration.getCloudinaryConfig());
+    public ImageUtils(ImageStorage imageStorage, EnvConfiguration envConfiguration) {
+        this.imageStorage = imageStorage;
+        this.uploadConcurrency = envConfiguration.getImageUploadConcurrency();
+        this.uploadTimeout = envConfiguration.getImageUploadTimeout();
     }
 
     public String uploadImage(MultipartFile imageFile) throws IOException {
-        Map uploadResult = cloudinary.uploader().upload(imageFile.getBytes(), ObjectUtils.emptyMap());
-        return (String) uploadResult.get("secure_url");
+        try (ReadableByteChannel content = Channels.newChannel(imageFile.getInputStream())) {
+            return imageStorage.store(content, imageFile.getOriginalFilename());
+        }
+    }
+
+    public String hashImage(MultipartFile imageFile) throws IOException {
+        MessageDigest digest = newContentDigest();
+
+        try (InputStream content = imageFile.getInputStream()) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public List<String> uploadImages(List<MultipartFile> imageFiles) {
+        Semaphore permits = new Semaphore(uploadConcurrency);
+        CountDownLatch remainingUploads = new CountDownLatch(imageFiles.size());
+        AtomicReferenceArray<String> uploadedUrls = new AtomicReferenceArray<>(imageFiles.size());
+
+        List<Future<?>> uploads = new ArrayList<>(imageFiles.size());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < imageFiles.size(); i++) {
+            int index = i;
+            uploads.add(executor.submit(() -> {
+                try {
+                    permits.acquire();
+                    try {
+                        String url = uploadImage(imageFiles.get(index));
+                        if (!uploadedUrls.compareAndSet(index, null, url)) {
+                            discardLateUpload(url);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException | RuntimeException e) {
+                    log.error("Failed to upload picture #{} ({})", index, imageFiles.get(index).getOriginalFilename(), e);
+                } finally {
+                    remainingUploads.countDown();
+                }
+            }));
+        }
+        executor.shutdown();
+
+        boolean completed = awaitUploads(remainingUploads, uploadTimeout);
+
+        List<String> urls = new ArrayList<>(imageFiles.size());
+        for (int i = 0; i < imageFiles.size(); i++) {
+            urls.add(uploadedUrls.getAndSet(i, EXPIRED_UPLOAD));
+        }
+
+        if (!completed) {
+            uploads.forEach(upload -> upload.cancel(true));
+            if (!awaitUploads(remainingUploads, UPLOAD_TERMINATION_TIMEOUT)) {
+                log.warn("{} picture upload(s) still running after the upload deadline, late results will be deleted", remainingUploads.getCount());
+            }
+        }
+
+        return urls;
+    }
+
+    private static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean awaitUploads(CountDownLatch remainingUploads, long timeout) {
+        try {
+            return remainingUploads.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void discardLateUpload(String url) {
+        if (isNull(url)) {
+            return;
+        }
+
+        try {
+            imageStorage.delete(url);
+            log.warn("Deleted picture uploaded after the upload deadline: {}", url);
+        } catch (IOException e) {
+            log.error("Failed to delete picture uploaded after the upload deadline: {}", url, e);
+        }
     }
 
 }
@@ -0,0 +1,229 @@
+package com.akkorhotel.hotel.utils;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.ImageStorage;
+import com.akkorhotel.hotel.model.ImageVariant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.springframework.util.StringUtils.hasText;
+
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final String WEBP_FORMAT = "webp";
+    private static final int LARGEST_VARIANT_WIDTH = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getMaxWidth)
+            .max()
+            .orElseThrow();
+
+    private final ImageStorage imageStorage;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final Path spoolDirectory;
+    private final boolean webpSupported;
+
+    public ImageVariantGenerator(ImageStorage imageStorage, EnvConfiguration envConfiguration) {
+        int workers = envConfiguration.getImageVariantWorkers();
+
+        this.imageStorage = imageStorage;
+        this.timeout = envConfiguration.getImageVariantTimeout();
+        this.spoolDirectory = Path.of(hasText(envConfiguration.getImageUploadSpoolDirectory())
+                ? envConfiguration.getImageUploadSpoolDirectory()
+                : System.getProperty("java.io.tmpdir"));
+        this.webpSupported = ImageIO.getImageWritersByFormatName(WEBP_FORMAT).hasNext();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(envConfiguration.getImageVariantQueueCapacity()),
+                new CustomizableThreadFactory("image-variants-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<List<Map<ImageVariant, String>>> generateVariants(List<MultipartFile> sources) {
+        List<CompletableFuture<Map<ImageVariant, String>>> futures = new ArrayList<>(sources.size());
+        for (MultipartFile source : sources) {
+            futures.add(submit(source));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Map<ImageVariant, String>> submit(MultipartFile source) {
+        String filename = source.getOriginalFilename();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        Path spooledSource;
+        try {
+            spooledSource = spool(source);
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to spool image variant source {}: {}", filename, e.getMessage());
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> generateVariants(spooledSource, filename, deadline), executor);
+        } catch (RejectedExecutionException e) {
+            deleteSpooledSource(spooledSource);
+            log.warn("⚠️ Image variant queue is full, skipping variants for {}", filename);
+            return CompletableFuture.completedFuture(Map.of());
+        }
+    }
+
+    private Path spool(MultipartFile source) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path spooledSource = Files.createTempFile(spoolDirectory, "image-variant-", ".tmp");
+
+        try (InputStream content = source.getInputStream()) {
+            Files.copy(content, spooledSource, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteSpooledSource(spooledSource);
+            throw e;
+        }
+
+        return spooledSource;
+    }
+
+    private Map<ImageVariant, String> generateVariants(Path spooledSource, String filename, long deadline) {
+        try {
+            BufferedImage original;
+            try (InputStream content = Files.newInputStream(spooledSource)) {
+                original = decode(content);
+            }
+
+            if (original == null) {
+                return Map.of();
+            }
+
+            boolean alpha = original.getColorModel().hasAlpha();
+            String format = webpSupported ? WEBP_FORMAT : alpha ? "png" : "jpg";
+
+            Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+            BufferedImage previous = original;
+            for (ImageVariant variant : largestFirst()) {
+                if (previous.getWidth() <= variant.getMaxWidth()) {
+                    continue;
+                }
+
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("⚠️ Image variant timeout reached for {}, keeping {} variant(s)", filename, variants.size());
+                    break;
+                }
+
+                previous = resize(previous, variant.getMaxWidth(), alpha);
+                variants.put(variant, store(previous, format, filename, variant));
+            }
+
+            return variants;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Failed to generate image variants: {}", e.getMessage());
+            return Map.of();
+        } finally {
+            deleteSpooledSource(spooledSource);
+        }
+    }
+
+    private static void deleteSpooledSource(Path spooledSource) {
+        try {
+            Files.deleteIfExists(spooledSource);
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to delete spooled image variant source {}: {}", spooledSource, e.getMessage());
+        }
+    }
+
+    private static BufferedImage decode(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / LARGEST_VARIANT_WIDTH);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, boolean alpha) {
+        int height = Math.max(1, (int) Math.round(source.getHeight() * (double) width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    private String store(BufferedImage image, String format, String originalFilename, ImageVariant variant) throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, encoded)) {
+            throw new IOException("No image writer available for " + format);
+        }
+
+        String filename = variantFilename(originalFilename, variant, format);
+        try (ReadableByteChannel content = Channels.newChannel(new ByteArrayInputStream(encoded.toByteArray()))) {
+            return imageStorage.store(content, filename);
+        }
+    }
+
+    private static String variantFilename(String originalFilename, ImageVariant variant, String format) {
+        String baseName = Optional.ofNullable(originalFilename)
+                .map(filename -> filename.contains(".") ? filename.substring(0, filename.lastIndexOf('.')) : filename)
+                .orElse("image");
+
+        return baseName + "-" + variant.name().toLowerCase(Locale.ROOT) + "." + format;
+    }
+
+    private static List<ImageVariant> largestFirst() {
+        return Arrays.stream(ImageVariant.values())
+                .sorted(Comparator.comparingInt(ImageVariant::getMaxWidth).reversed())
+                .toList();
+    }
+
+}
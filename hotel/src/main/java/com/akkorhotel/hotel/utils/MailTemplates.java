@@ -0,0 +1,84 @@
+package com.akkorhotel.hotel.utils;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class MailTemplates {
+
+    private static final String TEMPLATE_LOCATION = "templates/mail/%s.html";
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{\\{\\s*(\\w+)\\s*}}}|\\{\\{\\s*(\\w+)\\s*}}");
+
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    public String render(String templateName, Map<String, String> variables) {
+        return compiledTemplates.computeIfAbsent(templateName, MailTemplates::compile).render(variables);
+    }
+
+    static CompiledTemplate compile(String templateName) {
+        try (InputStream inputStream = new ClassPathResource(TEMPLATE_LOCATION.formatted(templateName)).getInputStream()) {
+            return parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load mail template " + templateName, e);
+        }
+    }
+
+    static CompiledTemplate parse(String source) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(source);
+
+        int position = 0;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                segments.add(new Segment(source.substring(position, matcher.start()), null, false));
+            }
+
+            boolean raw = !isNull(matcher.group(1));
+            segments.add(new Segment(null, raw ? matcher.group(1) : matcher.group(2), !raw));
+            position = matcher.end();
+        }
+
+        if (position < source.length()) {
+            segments.add(new Segment(source.substring(position), null, false));
+        }
+
+        return new CompiledTemplate(List.copyOf(segments), source.length());
+    }
+
+    record CompiledTemplate(List<Segment> segments, int estimatedLength) {
+
+        String render(Map<String, String> variables) {
+            StringBuilder builder = new StringBuilder(estimatedLength + 256);
+
+            for (Segment segment : segments) {
+                if (isNull(segment.variable())) {
+                    builder.append(segment.literal());
+                    continue;
+                }
+
+                String value = variables.getOrDefault(segment.variable(), "");
+                builder.append(segment.escaped() ? HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()) : value);
+            }
+
+            return builder.toString();
+        }
+    }
+
+    record Segment(String literal, String variable, boolean escaped) {
+    }
+
+}
@@ -1,9 +1,10 @@
 package com.akkorhotel.hotel;
 
-import com.akkorhotel.hotel.service.JwtTokenService;
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
 import com.akkorhotel.hotel.service.UuidProvider;
 import com.akkorhotel.hotel.utils.ImageUtils;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.AfterEach;
@@ -52,6 +53,9 @@ public class AdminIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
     @MockBean
     private ImageUtils imageUtils;
 
@@ -88,7 +92,8 @@ public class AdminIntegrationTests {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -1,13 +1,14 @@
 package com.akkorhotel.hotel;
 
 import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
 import com.akkorhotel.hotel.service.EmailService;
-import com.akkorhotel.hotel.service.JwtTokenService;
 import com.akkorhotel.hotel.service.UuidProvider;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import com.jayway.jsonpath.JsonPath;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.AfterEach;
@@ -30,7 +31,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-import static com.akkorhotel.hotel.service.JwtTokenService.SECRET_KEY;
 import static java.util.Map.entry;
 import static java.util.Map.ofEntries;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +55,9 @@ public class AuthenticationIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
     @Autowired
     private EnvConfiguration envConfiguration;
 
@@ -187,7 +190,7 @@ public class AuthenticationIntegrationTests {
         assertThat(token).isNotBlank();
 
         Jws<Claims> parsedToken = Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
+                .setSigningKeyResolver(jwtKeyRing)
                 .build()
                 .parseClaimsJws(token);
 
@@ -217,7 +220,8 @@ public class AuthenticationIntegrationTests {
                 .claim("type", "email_confirmation")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         String body = """
@@ -1,10 +1,11 @@
 package com.akkorhotel.hotel;
 
 import com.akkorhotel.hotel.configuration.DateConfiguration;
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
 import com.akkorhotel.hotel.model.Booking;
-import com.akkorhotel.hotel.service.JwtTokenService;
 import com.akkorhotel.hotel.service.UuidProvider;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.AfterEach;
@@ -25,6 +26,7 @@ import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -51,6 +53,9 @@ public class BookingIntegrationTests {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
     @MockBean
     private UuidProvider uuidProvider;
 
@@ -78,7 +83,8 @@ public class BookingIntegrationTests {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -179,7 +185,10 @@ public class BookingIntegrationTests {
 
         assertThat(savedBooking).hasSize(1);
 
-        assertThat((Map<String, Object>) savedBooking.getFirst())
+        Map<String, Object> savedBookingDocument = new HashMap<>(savedBooking.getFirst());
+        assertThat(savedBookingDocument.remove("lastModified")).isInstanceOf(Date.class);
+
+        assertThat(savedBookingDocument)
                 .containsExactlyInAnyOrderEntriesOf(ofEntries(
                         entry("_id", "f2cccd2f-5711-4356-a13a-f687dc983ce5"),
                         entry("userId", "f2cccd2f-5711-4356-a13a-f687dc983ce9"),
@@ -189,6 +198,7 @@ public class BookingIntegrationTests {
                         entry("checkInDate", new Date(1678464000000L)),
                         entry("checkOutDate", new Date(1678886400000L)),
                         entry("guests", 3),
+                        entry("version", 1L),
                         entry("hotelRoom", Map.ofEntries(
                                 entry("_id", "f2cccd2f-5711-4356-a13a-f687dc983ce2"),
                                 entry("price", 120.0),
@@ -202,6 +212,7 @@ public class BookingIntegrationTests {
                                 entry("picture_list", List.of("https://example.com/pic1.jpg", "https://example.com/pic2.jpg")),
                                 entry("amenities", List.of("PARKING", "BAR", "POOL", "GYM")),
                                 entry("stars", 4),
+                                entry("version", 0L),
                                 entry("rooms", List.of(
                                         Map.ofEntries(
                                                 entry("_id", "f2cccd2f-5711-4356-a13a-f687dc983ce2"),
@@ -420,7 +431,10 @@ public class BookingIntegrationTests {
 
         assertThat(updatedBooking).hasSize(1);
 
-        assertThat((Map<String, Object>) updatedBooking.getFirst())
+        Map<String, Object> updatedBookingDocument = new HashMap<>(updatedBooking.getFirst());
+        assertThat(updatedBookingDocument.remove("lastModified")).isInstanceOf(Date.class);
+
+        assertThat(updatedBookingDocument)
                 .containsExactlyInAnyOrderEntriesOf(ofEntries(
                         entry("_id", "bookingId123"),
                         entry("userId", "f2cccd2f-5711-4356-a13a-f687dc983ce9"),
@@ -430,6 +444,7 @@ public class BookingIntegrationTests {
                         entry("checkInDate", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2025-04-02T16:00:00")),
                         entry("checkOutDate", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2025-04-06T14:00:00")),
                         entry("guests", 3),
+                        entry("version", 1L),
                         entry("hotelRoom", Map.ofEntries(
                                 entry("_id", "hotelRoomId123"),
                                 entry("type", "SINGLE"),
@@ -443,6 +458,7 @@ public class BookingIntegrationTests {
                                 entry("picture_list", List.of("https://example.com/hotel1.jpg", "https://example.com/hotel2.jpg")),
                                 entry("amenities", List.of("SPA", "POOL", "GYM")),
                                 entry("stars", 4),
+                                entry("version", 0L),
                                 entry("rooms", List.of(
                                         Map.ofEntries(
                                                 entry("_id", "hotelRoomId123"),
@@ -11,15 +11,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.Duration;
 
 import static org.awaitility.Awaitility.await;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -74,9 +77,10 @@ public class HotelIntegrationTests {
         """, "HOTELS");
 
         // Act
-        ResultActions resultActions = mockMvc.perform(get("/hotel/f2cccd2f-5711-4356-a13a-f687dc983ce1")
+        MvcResult mvcResult = mockMvc.perform(get("/hotel/f2cccd2f-5711-4356-a13a-f687dc983ce1")
                 .contentType(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // Assert
         await()
@@ -215,10 +219,11 @@ public class HotelIntegrationTests {
         }
         """;
 
-        ResultActions resultActions = mockMvc.perform(post("/hotel")
+        MvcResult mvcResult = mockMvc.perform(post("/hotel")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // Assert
         await()
@@ -1,9 +1,10 @@
 package com.akkorhotel.hotel;
 
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
 import com.akkorhotel.hotel.service.EmailService;
-import com.akkorhotel.hotel.service.JwtTokenService;
 import com.akkorhotel.hotel.utils.ImageUtils;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.AfterEach;
@@ -53,6 +54,9 @@ public class UserIntegrationTests extends AbstractContainerBaseTest{
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
     @MockBean
     private EmailService emailService;
 
@@ -88,7 +92,8 @@ public class UserIntegrationTests extends AbstractContainerBaseTest{
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -150,7 +155,8 @@ public class UserIntegrationTests extends AbstractContainerBaseTest{
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         when(passwordEncoder.encode("AliceStrongP@ss1!")).thenReturn("newEncodedPassword");
@@ -232,7 +238,8 @@ public class UserIntegrationTests extends AbstractContainerBaseTest{
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -285,7 +292,8 @@ public class UserIntegrationTests extends AbstractContainerBaseTest{
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         MockMultipartFile file = new MockMultipartFile("file", "profile.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3, 4, 5});
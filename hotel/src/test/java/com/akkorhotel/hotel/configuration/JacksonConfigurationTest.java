@@ -0,0 +1,87 @@
+package com.akkorhotel.hotel.configuration;
+
+import com.akkorhotel.hotel.model.Hotel;
+import com.akkorhotel.hotel.model.HotelAmenities;
+import com.akkorhotel.hotel.model.HotelLocation;
+import com.akkorhotel.hotel.model.HotelRoom;
+import com.akkorhotel.hotel.model.HotelRoomFeatures;
+import com.akkorhotel.hotel.model.HotelRoomType;
+import com.akkorhotel.hotel.model.response.GetHotelResponse;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class JacksonConfigurationTest {
+
+    private final JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        jacksonConfiguration.objectMapperFeatures().customize(builder);
+
+        objectMapper = builder.build();
+    }
+
+    @Test
+    void shouldDisableUnusedFeatures() {
+        // Assert
+        assertThat(objectMapper.isEnabled(SerializationFeature.FAIL_ON_EMPTY_BEANS)).isTrue();
+        assertThat(objectMapper.isEnabled(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)).isFalse();
+        assertThat(objectMapper.isEnabled(MapperFeature.USE_GETTERS_AS_SETTERS)).isFalse();
+    }
+
+    @Test
+    void shouldSerializeHotelResponseLikeDefaultObjectMapper() throws Exception {
+        // Arrange
+        Hotel hotel = Hotel.builder()
+                .id("hotelId")
+                .name("LuxuryHotel")
+                .description("A five-star experience.")
+                .picture_list(List.of("https://picture1.jpg", "https://picture2.png"))
+                .amenities(List.of(HotelAmenities.POOL, HotelAmenities.WIFI))
+                .rooms(List.of(HotelRoom.builder()
+                        .id("roomId")
+                        .type(HotelRoomType.SINGLE)
+                        .price(120.00)
+                        .maxOccupancy(3)
+                        .features(List.of(HotelRoomFeatures.ROOM_SERVICE))
+                        .build()))
+                .location(HotelLocation.builder()
+                        .id("locationId")
+                        .city("Paris")
+                        .build())
+                .stars(5)
+                .version(2)
+                .lastModified(new Date(1_700_000_000_000L))
+                .build();
+
+        Object response = singletonMap("informations", GetHotelResponse.builder().hotel(hotel).build());
+
+        // Act
+        String json = objectMapper.writeValueAsString(response);
+
+        // Assert
+        assertThat(json).isEqualTo(Jackson2ObjectMapperBuilder.json().build().writeValueAsString(response));
+    }
+
+    @Test
+    void shouldWarmUpSerializersWithoutFailing() {
+        // Act & Assert
+        assertThatCode(() -> jacksonConfiguration.objectMapperWarmUp(objectMapper).run(new DefaultApplicationArguments()))
+                .doesNotThrowAnyException();
+    }
+
+}
@@ -1,6 +1,10 @@
 package com.akkorhotel.hotel.configuration;
 
+import com.akkorhotel.hotel.dao.InMemoryRateLimitStore;
+import com.akkorhotel.hotel.service.JwtTokenService;
 import com.akkorhotel.hotel.service.RateLimitingService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class RateLimitingFilterTest {
@@ -20,11 +25,15 @@ class RateLimitingFilterTest {
     private HttpServletRequest request;
     private HttpServletResponse response;
     private FilterChain filterChain;
+    private JwtTokenService jwtTokenService;
+    private EnvConfiguration envConfiguration;
 
     @BeforeEach
     void setUp() throws IOException {
-        RateLimitingService rateLimitingService = new RateLimitingService();
-        rateLimitingFilter = new RateLimitingFilter(rateLimitingService);
+        RateLimitingService rateLimitingService = new RateLimitingService(new InMemoryRateLimitStore());
+        jwtTokenService = mock(JwtTokenService.class);
+        envConfiguration = new EnvConfiguration();
+        rateLimitingFilter = new RateLimitingFilter(rateLimitingService, new RateLimitPolicies(), jwtTokenService, envConfiguration);
 
         request = mock(HttpServletRequest.class);
         response = mock(HttpServletResponse.class);
@@ -32,6 +41,8 @@ class RateLimitingFilterTest {
         PrintWriter writer = mock(PrintWriter.class);
 
         when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/private/user");
         when(response.getWriter()).thenReturn(writer);
     }
 
@@ -64,4 +75,96 @@ class RateLimitingFilterTest {
         verify(response, times(1)).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
     }
 
+    @Test
+    void shouldThrottleExpensiveUploadsWithoutAffectingCheapReads() throws ServletException, IOException {
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/private/user/profile-image");
+
+        for (int i = 0; i < 7; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        verify(filterChain, times(6)).doFilter(request, response);
+        verify(response, times(1)).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/hotel/hotelId");
+
+        rateLimitingFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain, times(7)).doFilter(request, response);
+    }
+
+    @Test
+    void shouldThrottleHotelSearchMoreTightlyThanHotelReads() throws ServletException, IOException {
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/hotel");
+
+        for (int i = 0; i < 11; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        verify(filterChain, times(10)).doFilter(request, response);
+        verify(response, times(1)).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/hotel/hotelId");
+
+        rateLimitingFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain, times(11)).doFilter(request, response);
+    }
+
+    @Test
+    void shouldShareHotelSearchBudgetBetweenGetAndPostRoutes() throws ServletException, IOException {
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/hotel");
+
+        for (int i = 0; i < 5; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/hotel/search");
+
+        for (int i = 0; i < 6; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        verify(filterChain, times(10)).doFilter(request, response);
+        verify(response, times(1)).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void shouldSkipRateLimiting_whenDisabled() throws ServletException, IOException {
+        envConfiguration.setRateLimitEnabled(false);
+
+        for (int i = 0; i <= 60; i++) {
+            rateLimitingFilter.doFilter(request, response, filterChain);
+        }
+
+        verify(filterChain, times(61)).doFilter(request, response);
+        verify(response, never()).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void shouldLimitAuthenticatedUsersIndependentlyBehindSameIp() throws ServletException, IOException {
+        Claims firstUserClaims = Jwts.claims().setSubject("firstUserId");
+        Claims secondUserClaims = Jwts.claims().setSubject("secondUserId");
+
+        when(jwtTokenService.isAccessToken(any(Claims.class))).thenReturn(true);
+        when(jwtTokenService.resolveClaimsFromRequest(request)).thenReturn(firstUserClaims);
+
+        for (int i = 0; i <= 60; i++) {
+            rateLimitingFilter.doFilterInternal(request, response, filterChain);
+        }
+
+        when(jwtTokenService.resolveClaimsFromRequest(request)).thenReturn(secondUserClaims);
+
+        rateLimitingFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain, times(61)).doFilter(request, response);
+        verify(response, times(1)).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
 }
@@ -1,8 +1,8 @@
 package com.akkorhotel.hotel.configuration;
 
 import com.akkorhotel.hotel.AbstractContainerBaseTest;
-import com.akkorhotel.hotel.service.JwtTokenService;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +35,9 @@ class SecurityConfigurationTest extends AbstractContainerBaseTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
     @Autowired
     private MongoTemplate mongoTemplate;
 
@@ -72,7 +75,8 @@ class SecurityConfigurationTest extends AbstractContainerBaseTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -103,7 +107,8 @@ class SecurityConfigurationTest extends AbstractContainerBaseTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -161,7 +166,8 @@ class SecurityConfigurationTest extends AbstractContainerBaseTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -184,7 +190,8 @@ class SecurityConfigurationTest extends AbstractContainerBaseTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -0,0 +1,58 @@
+package com.akkorhotel.hotel.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setVirtualThreadPinningThreshold(5);
+
+        virtualThreadPinningMonitor = new VirtualThreadPinningMonitor(envConfiguration, meterRegistry);
+        virtualThreadPinningMonitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualThreadPinningMonitor.stop();
+    }
+
+    @Test
+    void shouldCountVirtualThreadsBlockingInsideSynchronizedBlocks() throws InterruptedException {
+        // Arrange
+        Object monitor = new Object();
+
+        // Act
+        Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pinnedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(pinnedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    private double pinnedCount() {
+        return meterRegistry.counter("akkorhotel.virtual.threads.pinned").count();
+    }
+
+}
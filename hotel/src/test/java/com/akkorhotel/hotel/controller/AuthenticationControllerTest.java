@@ -6,9 +6,11 @@ import com.akkorhotel.hotel.model.UserRole;
 import com.akkorhotel.hotel.model.request.ConfirmEmailRequest;
 import com.akkorhotel.hotel.model.request.CreateUserRequest;
 import com.akkorhotel.hotel.model.request.LoginRequest;
+import com.akkorhotel.hotel.model.request.RefreshTokenRequest;
 import com.akkorhotel.hotel.model.request.ResendConfirmationEmailRequest;
 import com.akkorhotel.hotel.service.AuthenticationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,9 +23,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Map;
+
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -105,6 +110,49 @@ class AuthenticationControllerTest {
         assertThat(capturedLoginRequest.getPassword()).isEqualTo("userPassword");
     }
 
+    @Test
+    void shouldRefreshToken() throws Exception {
+        // Arrange
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest();
+        refreshTokenRequest.setRefreshToken("refreshToken");
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+
+        when(authenticationService.refreshToken(any(String.class))).thenReturn(ResponseEntity.ok(Map.of("token", "newToken", "refreshToken", "newRefreshToken")));
+
+        // Act
+        mockMvc.perform(post("/auth/refresh")
+                        .content(new ObjectMapper().writeValueAsString(refreshTokenRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("newToken"))
+                .andExpect(jsonPath("$.refreshToken").value("newRefreshToken"));
+
+        // Assert
+        verify(authenticationService).refreshToken(captor.capture());
+
+        assertThat(captor.getValue()).isEqualTo("refreshToken");
+    }
+
+    @Test
+    void shouldLogoutUser() throws Exception {
+        // Arrange
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest();
+        refreshTokenRequest.setRefreshToken("refreshToken");
+
+        when(authenticationService.logout(any(String.class), any(HttpServletRequest.class))).thenReturn(ResponseEntity.ok(singletonMap("message", "Successfully logged out")));
+
+        // Act
+        mockMvc.perform(post("/auth/logout")
+                        .content(new ObjectMapper().writeValueAsString(refreshTokenRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Successfully logged out"));
+
+        // Assert
+        verify(authenticationService).logout(eq("refreshToken"), any(HttpServletRequest.class));
+    }
+
     @Test
     void shouldConfirmUserEmail() throws Exception {
         // Arrange
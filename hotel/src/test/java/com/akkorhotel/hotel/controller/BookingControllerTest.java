@@ -103,7 +103,7 @@ class BookingControllerTest {
                 .booking(booking)
                 .build();
 
-        when(bookingService.getBooking(any(), any()))
+        when(bookingService.getBooking(any(), any(), any()))
                 .thenReturn(ResponseEntity.ok(singletonMap("informations", response)));
 
         // Act & Assert
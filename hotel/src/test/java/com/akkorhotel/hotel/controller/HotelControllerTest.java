@@ -11,24 +11,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -85,11 +93,17 @@ class HotelControllerTest {
                 .hotel(hotel)
                 .build();
 
-        when(hotelService.getHotel(anyString()))
-                .thenReturn(ResponseEntity.ok(singletonMap("informations", hotelResponse)));
+        when(hotelService.getHotel(anyString(), isNull()))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new ObjectMapper().writeValueAsBytes(singletonMap("informations", hotelResponse)))));
 
         // Act
-        mockMvc.perform(get("/hotel/{hotelId}", hotelId))
+        MvcResult asyncResult = mockMvc.perform(get("/hotel/{hotelId}", hotelId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.informations.error").doesNotExist())
                 .andExpect(jsonPath("$.informations.hotel.id").value("f2cccd2f-5711-4356-a13a-f687dc983ce1"))
@@ -114,7 +128,7 @@ class HotelControllerTest {
                 .andExpect(jsonPath("$.informations.hotel.location.googleMapsUrl").value("https://maps.google.com/?q=LuxuryHotel"));
 
         // Assert
-        verify(hotelService).getHotel(hotelId);
+        verify(hotelService).getHotel(hotelId, null);
     }
 
     @Test
@@ -152,12 +166,16 @@ class HotelControllerTest {
                 .build();
 
         when(hotelService.getHotels(any(GetHotelsRequest.class)))
-                .thenReturn(ResponseEntity.ok(singletonMap("informations", hotelsResponse)));
+                .thenReturn(Mono.just(ResponseEntity.ok(singletonMap("informations", hotelsResponse))));
 
         // Act
-        mockMvc.perform(post("/hotel")
+        MvcResult asyncResult = mockMvc.perform(post("/hotel")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(new ObjectMapper().writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
 
                 .andExpect(jsonPath("$.informations.hotelsFound").value(25))
@@ -184,4 +202,40 @@ class HotelControllerTest {
         verify(hotelService).getHotels(any(GetHotelsRequest.class));
     }
 
+    @Test
+    void shouldSearchHotelsFromQueryParameters() throws Exception {
+        // Arrange
+        GetAllHotelsResponse hotelsResponse = GetAllHotelsResponse.builder()
+                .hotelsFound(0)
+                .error("No hotel found")
+                .build();
+
+        when(hotelService.searchHotels(any(GetHotelsRequest.class), anyString()))
+                .thenReturn(Mono.just(ResponseEntity.ok(singletonMap("informations", hotelsResponse))));
+
+        // Act
+        MvcResult asyncResult = mockMvc.perform(get("/hotel/search?city=Paris&filter=PRICE_LOW_TO_HIGH&guests=2&hotelAmenities=POOL&hotelAmenities=WIFI&page=1&pageSize=2&twoStars=true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.informations.error").value("No hotel found"));
+
+        // Assert
+        ArgumentCaptor<GetHotelsRequest> captor = ArgumentCaptor.forClass(GetHotelsRequest.class);
+        verify(hotelService).searchHotels(captor.capture(), eq("city=Paris&filter=PRICE_LOW_TO_HIGH&guests=2&hotelAmenities=POOL&hotelAmenities=WIFI&page=1&pageSize=2&twoStars=true"));
+
+        GetHotelsRequest request = captor.getValue();
+        assertThat(request.getPage()).isEqualTo(1);
+        assertThat(request.getPageSize()).isEqualTo(2);
+        assertThat(request.getFilter()).isEqualTo("PRICE_LOW_TO_HIGH");
+        assertThat(request.getFilters().getCity()).isEqualTo("Paris");
+        assertThat(request.getFilters().getGuests()).isEqualTo(2);
+        assertThat(request.getFilters().getBedrooms()).isEqualTo(1);
+        assertThat(request.getFilters().getMaxPrice()).isEqualTo(2000);
+        assertThat(request.getFilters().getHotelAmenities()).containsExactly("POOL", "WIFI");
+        assertThat(request.getFilters().isTwoStars()).isTrue();
+    }
+
 }
\ No newline at end of file
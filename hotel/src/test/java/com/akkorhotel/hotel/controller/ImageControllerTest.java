@@ -0,0 +1,60 @@
+package com.akkorhotel.hotel.controller;
+
+import com.akkorhotel.hotel.service.ImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ImageControllerTest {
+
+    private MockMvc mockMvc;
+
+    @InjectMocks
+    private ImageController imageController;
+
+    @Mock
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(imageController).build();
+    }
+
+    @Test
+    void shouldServeStoredImage() throws Exception {
+        // Arrange
+        String name = "0b8f6c1e-4a4b-4f0a-9d59-2f4a7f0d7c11.png";
+
+        doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(2);
+            response.setContentType("image/png");
+            response.getOutputStream().write(new byte[]{1, 2, 3});
+            return null;
+        }).when(imageService).serveStoredImage(eq(name), any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+        // Act & Assert
+        mockMvc.perform(get("/image/{name}", name))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+
+        verify(imageService).serveStoredImage(eq(name), any(HttpServletRequest.class), any(HttpServletResponse.class));
+    }
+
+}
@@ -12,6 +12,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Map.entry;
 import static java.util.Map.ofEntries;
@@ -92,6 +93,8 @@ class BookingDaoTest {
                         entry("checkInDate", new Date(1677628800000L)),
                         entry("checkOutDate", new Date(1677715200000L)),
                         entry("guests", 3),
+                        entry("version", 1L),
+                        entry("lastModified", booking.getLastModified()),
                         entry("hotelRoom", Map.ofEntries(
                                 entry("_id", "hotelRoomId"),
                                 entry("price", 100.0),
@@ -106,6 +109,7 @@ class BookingDaoTest {
                                 entry("picture_list", List.of("picture1", "picture2")),
                                 entry("amenities", List.of("BAR", "WIFI")),
                                 entry("stars", 4),
+                                entry("version", 0L),
                                 entry("rooms", List.of(
                                         Map.ofEntries(
                                                 entry("_id", "hotelRoomId"),
@@ -545,4 +549,32 @@ class BookingDaoTest {
         assertThat(bookings).isEqualTo(List.of(booking));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldStreamActiveBookingsCheckingInBetweenDates_afterGivenBookingId() {
+        // Arrange
+        Hotel hotel = Hotel.builder().id("hotelId").name("name").build();
+        HotelRoom hotelRoom = HotelRoom.builder().id("hotelRoomId").type(HotelRoomType.DELUXE).build();
+
+        mongoTemplate.insert(Booking.builder().id("bookingId1").userId("userId").hotel(hotel).hotelRoom(hotelRoom)
+                .checkInDate(new Date(1677628800000L)).status(BookingStatus.CONFIRMED).build(), "BOOKING");
+        mongoTemplate.insert(Booking.builder().id("bookingId2").userId("userId").hotel(hotel).hotelRoom(hotelRoom)
+                .checkInDate(new Date(1677632400000L)).status(BookingStatus.PENDING).build(), "BOOKING");
+        mongoTemplate.insert(Booking.builder().id("bookingId3").userId("userId").hotel(hotel).hotelRoom(hotelRoom)
+                .checkInDate(new Date(1677636000000L)).status(BookingStatus.CANCELED).build(), "BOOKING");
+        mongoTemplate.insert(Booking.builder().id("bookingId4").userId("userId").hotel(hotel).hotelRoom(hotelRoom)
+                .checkInDate(new Date(1677639600000L)).status(BookingStatus.CONFIRMED).build(), "BOOKING");
+        mongoTemplate.insert(Booking.builder().id("bookingId5").userId("userId").hotel(hotel).hotelRoom(hotelRoom)
+                .checkInDate(new Date(1677715200000L)).status(BookingStatus.CONFIRMED).build(), "BOOKING");
+
+        // Act
+        List<Booking> bookings;
+        try (Stream<Booking> stream = bookingDao.streamActiveBookingsCheckingInBetween(
+                new Date(1677628800000L), new Date(1677715200000L), "bookingId1", 2)) {
+            bookings = stream.toList();
+        }
+
+        // Assert
+        assertThat(bookings).extracting(Booking::getId).containsExactly("bookingId2", "bookingId4");
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class CloudinaryImageStorageTest {
+
+    private CloudinaryImageStorage cloudinaryImageStorage;
+    private Uploader uploader;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setImageUploadSpoolDirectory(spoolDirectory.toString());
+
+        Cloudinary cloudinary = mock(Cloudinary.class);
+        uploader = mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+
+        cloudinaryImageStorage = new CloudinaryImageStorage(cloudinary, envConfiguration);
+    }
+
+    @Test
+    void shouldUploadFromSpooledFile_andDeleteItAfterUpload() throws IOException {
+        // Arrange
+        when(uploader.upload(any(File.class), anyMap())).thenAnswer(invocation -> {
+            File spooledFile = invocation.getArgument(0);
+            assertThat(spooledFile.toPath().getParent()).isEqualTo(spoolDirectory);
+            assertThat(Files.readAllBytes(spooledFile.toPath())).containsExactly(1, 2, 3);
+            return Map.of("secure_url", "https://picture.jpg");
+        });
+
+        // Act
+        String url = cloudinaryImageStorage.store(buildContent(), "picture.jpg");
+
+        // Assert
+        assertThat(url).isEqualTo("https://picture.jpg");
+        verify(uploader, never()).upload(any(byte[].class), anyMap());
+        try (Stream<Path> spooledFiles = Files.list(spoolDirectory)) {
+            assertThat(spooledFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDeleteSpooledFile_whenUploadFails() throws IOException {
+        // Arrange
+        when(uploader.upload(any(File.class), anyMap())).thenThrow(new IOException("Upload error"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cloudinaryImageStorage.store(buildContent(), "picture.jpg"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Upload error");
+
+        try (Stream<Path> spooledFiles = Files.list(spoolDirectory)) {
+            assertThat(spooledFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldNotResolveStoredImages() {
+        // Act & Assert
+        assertThat(cloudinaryImageStorage.find("picture.jpg")).isEmpty();
+    }
+
+    @Test
+    void shouldDestroyImageByPublicId() throws IOException {
+        // Act
+        cloudinaryImageStorage.delete("https://res.cloudinary.com/akkorhotel/image/upload/v1700000000/folder/picture.jpg");
+
+        // Assert
+        verify(uploader).destroy("folder/picture", Map.of());
+    }
+
+    private ReadableByteChannel buildContent() {
+        return Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+    }
+
+}
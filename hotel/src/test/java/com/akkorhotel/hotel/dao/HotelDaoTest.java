@@ -63,6 +63,8 @@ class HotelDaoTest {
                         entry("amenities", emptyList()),
                         entry("rooms", emptyList()),
                         entry("stars", 4),
+                        entry("version", 1L),
+                        entry("lastModified", hotel.getLastModified()),
                         entry("location", Map.of(
                                 "_id", "f2cccd2f-5711-4356-a13a-f687dc983ce1",
                                 "address", "address",
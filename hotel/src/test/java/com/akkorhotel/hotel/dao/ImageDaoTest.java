@@ -3,6 +3,7 @@ package com.akkorhotel.hotel.dao;
 import com.akkorhotel.hotel.model.Image;
 import com.akkorhotel.hotel.model.ImageCategory;
 import com.akkorhotel.hotel.model.ImageExtension;
+import com.akkorhotel.hotel.model.ImageVariant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -97,4 +98,147 @@ class ImageDaoTest {
         assertThat(imageOptional).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReturnImages_whenContentHashesExistInDatabase() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "imageId1",
+            "url": "url1",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "jpg",
+            "category": "HOTEL",
+            "contentHash": "hash1"
+        }
+        """, "IMAGES");
+        mongoTemplate.insert("""
+        {
+            "_id": "imageId2",
+            "url": "url2",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "png",
+            "category": "HOTEL",
+            "contentHash": "hash2"
+        }
+        """, "IMAGES");
+
+        // Act
+        List<Image> images = imageDao.findByContentHashes(List.of("hash1", "unknownHash"));
+
+        // Assert
+        assertThat(images).hasSize(1);
+        assertThat(images.getFirst().getContentHash()).isEqualTo("hash1");
+        assertThat(images.getFirst().getUrl()).isEqualTo("url1");
+    }
+
+    @Test
+    void shouldServeImageFromCache_onceLoaded() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "cachedImageId",
+            "url": "url",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "jpg",
+            "category": "USER"
+        }
+        """, "IMAGES");
+
+        imageDao.findById("cachedImageId");
+        mongoTemplate.dropCollection("IMAGES");
+
+        // Act
+        Optional<Image> imageOptional = imageDao.findById("cachedImageId");
+
+        // Assert
+        assertThat(imageOptional).isPresent();
+        assertThat(imageOptional.get().getUrl()).isEqualTo("url");
+    }
+
+    @Test
+    void shouldReturnImagesByIds_inRequestedOrder() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "batchImageId1",
+            "url": "url1",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "jpg",
+            "category": "HOTEL"
+        }
+        """, "IMAGES");
+        mongoTemplate.insert("""
+        {
+            "_id": "batchImageId2",
+            "url": "url2",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "png",
+            "category": "HOTEL"
+        }
+        """, "IMAGES");
+
+        // Act
+        List<Image> images = imageDao.findAllByIds(List.of("batchImageId2", "unknownImageId", "batchImageId1"));
+
+        // Assert
+        assertThat(images).extracting(Image::getId).containsExactly("batchImageId2", "batchImageId1");
+        assertThat(images).extracting(Image::getUrl).containsExactly("url2", "url1");
+    }
+
+    @Test
+    void shouldSaveVariants_andRefreshCachedImage() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "variantImageId",
+            "url": "url",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "jpg",
+            "category": "HOTEL"
+        }
+        """, "IMAGES");
+
+        Image image = imageDao.findById("variantImageId").orElseThrow();
+        image.setVariants(Map.of(ImageVariant.THUMBNAIL, "thumbnailUrl"));
+
+        // Act
+        imageDao.saveVariants(image);
+
+        // Assert
+        Optional<Image> imageOptional = imageDao.findById("variantImageId");
+        assertThat(imageOptional).isPresent();
+        assertThat(imageOptional.get().getVariants()).isEqualTo(Map.of(ImageVariant.THUMBNAIL, "thumbnailUrl"));
+    }
+
+    @Test
+    void shouldReturnCopiesOfCachedImages() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "copiedImageId",
+            "url": "url",
+            "name": "name",
+            "uploaderId": "uploaderId",
+            "extension": "jpg",
+            "category": "HOTEL"
+        }
+        """, "IMAGES");
+
+        imageDao.findById("copiedImageId").orElseThrow().setUrl("mutatedUrl");
+        imageDao.findAllByIds(List.of("copiedImageId")).getFirst().setUrl("mutatedUrl");
+
+        // Act
+        Optional<Image> imageOptional = imageDao.findById("copiedImageId");
+
+        // Assert
+        assertThat(imageOptional).isPresent();
+        assertThat(imageOptional.get().getUrl()).isEqualTo("url");
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.akkorhotel.hotel.dao;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.model.StoredImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStorageTest {
+
+    private LocalImageStorage localImageStorage;
+
+    @TempDir
+    private Path storageDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setImageStorageDirectory(storageDirectory.toString());
+        envConfiguration.setImageStoragePublicUrl("https://cdn.akkorhotel.com");
+
+        localImageStorage = new LocalImageStorage(envConfiguration);
+    }
+
+    @Test
+    void shouldStoreImage_andResolveIt() throws IOException {
+        // Act
+        String url = localImageStorage.store(buildContent(), "picture.png");
+
+        // Assert
+        assertThat(url).matches("https://cdn\\.akkorhotel\\.com/image/[a-f0-9-]{36}\\.png");
+
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        Optional<StoredImage> storedImage = localImageStorage.find(name);
+
+        assertThat(storedImage).isPresent();
+        assertThat(storedImage.get().getPath()).isEqualTo(storageDirectory.resolve(name).toAbsolutePath());
+        assertThat(storedImage.get().getSize()).isEqualTo(3);
+        assertThat(storedImage.get().getContentType()).isEqualTo("image/png");
+        assertThat(storedImage.get().getEtag()).startsWith("\"3-").endsWith("\"");
+        assertThat(Files.readAllBytes(storedImage.get().getPath())).containsExactly(1, 2, 3);
+
+        try (Stream<Path> files = Files.list(storageDirectory)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldRejectUnsupportedExtension() {
+        // Act & Assert
+        assertThatThrownBy(() -> localImageStorage.store(buildContent(), "picture.gif"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Unsupported image file: picture.gif");
+    }
+
+    @Test
+    void shouldNotResolveUnknownOrInvalidNames() throws IOException {
+        // Arrange
+        Files.writeString(storageDirectory.resolve("secret.txt"), "secret");
+
+        // Act & Assert
+        assertThat(localImageStorage.find("0b8f6c1e-4a4b-4f0a-9d59-2f4a7f0d7c11.png")).isEmpty();
+        assertThat(localImageStorage.find("secret.txt")).isEmpty();
+        assertThat(localImageStorage.find("../0b8f6c1e-4a4b-4f0a-9d59-2f4a7f0d7c11.png")).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteStoredImage() throws IOException {
+        // Arrange
+        String url = localImageStorage.store(buildContent(), "picture.png");
+
+        // Act
+        localImageStorage.delete(url);
+
+        // Assert
+        try (Stream<Path> files = Files.list(storageDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private ReadableByteChannel buildContent() {
+        return Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+    }
+
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -16,6 +17,7 @@ import java.util.Optional;
 import static java.util.Map.entry;
 import static java.util.Map.ofEntries;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 @DataMongoTest
 @ActiveProfiles("test")
@@ -94,72 +96,6 @@ class UserDaoTest {
         assertThat(userRole).isNull();
     }
 
-    @Test
-    void shouldReturnTrue_whenUsernameExistsInDatabase() {
-        // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "existingUsername",
-                "password": "password",
-                "email": "test@example.com",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
-
-        // Act
-        boolean isUserInDatabase = userDao.isUserInDatabase("existingUsername", "not.existing@example.com");
-
-        // Assert
-        assertThat(isUserInDatabase).isTrue();
-    }
-
-    @Test
-    void shouldReturnTrue_whenUserEmailExistsInDatabase() {
-        // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "username",
-                "password": "password",
-                "email": "existing.email@example.com",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
-
-        // Act
-        boolean isUserInDatabase = userDao.isUserInDatabase("notExistingUsername", "existing.email@example.com");
-
-        // Assert
-        assertThat(isUserInDatabase).isTrue();
-    }
-
-    @Test
-    void shouldReturnFalse_whenUserDoesNotExistInDatabase() {
-        // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "username",
-                "password": "password",
-                "email": "email@example.com",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
-
-        // Act
-        boolean exists = userDao.isUserInDatabase("nonExistentUser", "non.existent@example.com");
-
-        // Assert
-        assertThat(exists).isFalse();
-    }
-
     @Test
     void shouldReturnUser_whenEmailExistsInDatabase() {
         // Arrange
@@ -237,91 +173,87 @@ class UserDaoTest {
     }
 
     @Test
-    void shouldReturnTrue_whenEmailIsAlreadyUsed() {
+    void shouldRejectDuplicateUsername_whenInsertingUser() {
         // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "username",
-                "password": "password",
-                "email": "already.used@example.com",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
-
-        // Act
-        boolean isEmailAlreadyUsed = userDao.isEmailAlreadyUsed("already.used@example.com");
-
-        // Assert
-        assertThat(isEmailAlreadyUsed).isTrue();
-    }
+        userDao.ensureIndexes();
+        userDao.insert(User.builder()
+                .id("firstId")
+                .username("alreadyUsed")
+                .email("first@example.com")
+                .password("password")
+                .build());
 
-    @Test
-    void shouldReturnFalse_whenEmailIsNotUsed() {
-        // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "username",
-                "password": "password",
-                "email": "email",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
+        User duplicateUser = User.builder()
+                .id("secondId")
+                .username("alreadyUsed")
+                .email("second@example.com")
+                .password("password")
+                .build();
 
         // Act
-        boolean isEmailAlreadyUsed = userDao.isEmailAlreadyUsed("not.used@example.com");
+        DuplicateKeyException exception = catchThrowableOfType(DuplicateKeyException.class, () -> userDao.insert(duplicateUser));
 
         // Assert
-        assertThat(isEmailAlreadyUsed).isFalse();
+        assertThat(exception).isNotNull();
+        assertThat(userDao.isDuplicateUsername(exception)).isTrue();
+        assertThat(userDao.isDuplicateEmail(exception)).isFalse();
+        assertThat(mongoTemplate.findAll(Map.class, "USERS")).hasSize(1);
     }
 
     @Test
-    void shouldReturnTrue_whenUsernameIsAlreadyUsed() {
+    void shouldRejectDuplicateEmail_whenSavingUser() {
         // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "alreadyUsed",
-                "password": "password",
-                "email": "email",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
+        userDao.ensureIndexes();
+        userDao.insert(User.builder()
+                .id("firstId")
+                .username("firstUser")
+                .email("already.used@example.com")
+                .password("password")
+                .build());
+
+        User userToUpdate = User.builder()
+                .id("secondId")
+                .username("secondUser")
+                .email("second@example.com")
+                .password("password")
+                .build();
+        userDao.insert(userToUpdate);
+        userToUpdate.setEmail("already.used@example.com");
 
         // Act
-        boolean isUsernameAlreadyUsed = userDao.isUsernameAlreadyUsed("alreadyUsed");
+        DuplicateKeyException exception = catchThrowableOfType(DuplicateKeyException.class, () -> userDao.save(userToUpdate));
 
         // Assert
-        assertThat(isUsernameAlreadyUsed).isTrue();
+        assertThat(exception).isNotNull();
+        assertThat(userDao.isDuplicateEmail(exception)).isTrue();
+        assertThat(userDao.isDuplicateUsername(exception)).isFalse();
     }
 
     @Test
-    void shouldReturnFalse_whenUsernameIsNotUsed() {
+    void shouldNotReportUsernameOrEmail_whenIdIsDuplicated() {
         // Arrange
-        mongoTemplate.insert("""
-            {
-                "_id": "id",
-                "username": "username",
-                "password": "password",
-                "email": "email",
-                "isValidEmail": true,
-                "role": "USER",
-                "profileImageUrl": "profileImageUrl"
-            }
-            """, "USERS");
+        userDao.ensureIndexes();
+        userDao.insert(User.builder()
+                .id("sameId")
+                .username("firstUser")
+                .email("first@example.com")
+                .password("password")
+                .build());
+
+        User duplicateUser = User.builder()
+                .id("sameId")
+                .username("secondUser")
+                .email("second@example.com")
+                .password("password")
+                .build();
 
         // Act
-        boolean isUsernameAlreadyUsed = userDao.isUsernameAlreadyUsed("notUsed");
+        DuplicateKeyException exception = catchThrowableOfType(DuplicateKeyException.class, () -> userDao.insert(duplicateUser));
 
         // Assert
-        assertThat(isUsernameAlreadyUsed).isFalse();
+        assertThat(exception).isNotNull();
+        assertThat(userDao.isDuplicateUsername(exception)).isFalse();
+        assertThat(userDao.isDuplicateEmail(exception)).isFalse();
     }
 
     @Test
@@ -862,4 +794,84 @@ class UserDaoTest {
         assertThat(exist).isEqualTo(true);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReturnAuthenticatedUser_whenIdExistsInDatabase() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "authenticatedUserId",
+            "username": "username",
+            "password": "password",
+            "email": "test@example.com",
+            "isValidEmail": true,
+            "role": "USER",
+            "profileImageUrl": "profileImageUrl"
+        }
+        """, "USERS");
+
+        // Act
+        Optional<User> userOptional = userDao.findAuthenticatedUserById("authenticatedUserId");
+
+        // Assert
+        assertThat(userOptional).isPresent();
+        assertThat(userOptional.get().getId()).isEqualTo("authenticatedUserId");
+        assertThat(userOptional.get().getUsername()).isEqualTo("username");
+        assertThat(userOptional.get().getRole()).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    void shouldReturnUpdatedAuthenticatedUser_whenUserIsSavedAfterBeingCached() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "cachedUserId",
+            "username": "username",
+            "password": "password",
+            "email": "test@example.com",
+            "isValidEmail": true,
+            "role": "USER",
+            "profileImageUrl": "profileImageUrl"
+        }
+        """, "USERS");
+
+        User cachedUser = userDao.findAuthenticatedUserById("cachedUserId").orElseThrow();
+        cachedUser.setRole(UserRole.ADMIN);
+
+        // Act
+        Optional<User> userBeforeSave = userDao.findAuthenticatedUserById("cachedUserId");
+        userDao.save(cachedUser);
+        Optional<User> userAfterSave = userDao.findAuthenticatedUserById("cachedUserId");
+
+        // Assert
+        assertThat(userBeforeSave).isPresent();
+        assertThat(userBeforeSave.get().getRole()).isEqualTo(UserRole.USER);
+        assertThat(userAfterSave).isPresent();
+        assertThat(userAfterSave.get().getRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    void shouldReturnEmptyAuthenticatedUser_whenUserIsDeletedAfterBeingCached() {
+        // Arrange
+        mongoTemplate.insert("""
+        {
+            "_id": "deletedUserId",
+            "username": "username",
+            "password": "password",
+            "email": "test@example.com",
+            "isValidEmail": true,
+            "role": "USER",
+            "profileImageUrl": "profileImageUrl"
+        }
+        """, "USERS");
+
+        userDao.findAuthenticatedUserById("deletedUserId");
+
+        // Act
+        userDao.delete("deletedUserId");
+        Optional<User> userOptional = userDao.findAuthenticatedUserById("deletedUserId");
+
+        // Assert
+        assertThat(userOptional).isEmpty();
+    }
+
+}
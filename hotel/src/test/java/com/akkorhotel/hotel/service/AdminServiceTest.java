@@ -13,10 +13,12 @@ import com.akkorhotel.hotel.utils.ImageUtils;
 import com.akkorhotel.hotel.utils.UserUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,15 +26,19 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -66,6 +72,9 @@ class AdminServiceTest {
     @Mock
     private BookingDao bookingDao;
 
+    @Mock
+    private UserTokenVersionService userTokenVersionService;
+
     @Test
     void shouldReturnAllUsersWithMatchingPrefix() {
         // Arrange
@@ -341,9 +350,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
 
         // Act
@@ -353,14 +360,13 @@ class AdminServiceTest {
         User expectedUser = buildUser("id", "newUsername", "new.email@gmail.com", "password",
                 false, UserRole.ADMIN, "https://newProfileImageUrl.jpg");
 
-        InOrder inOrder = inOrder(userDao, userUtils, imageService);
+        InOrder inOrder = inOrder(userDao, userUtils, imageService, userTokenVersionService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userDao).save(expectedUser);
+        inOrder.verify(userTokenVersionService).incrementVersion("id");
         inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -450,10 +456,14 @@ class AdminServiceTest {
         User userToUpdate = buildUser("id", "oldUsername", "old.email@gmail.com", "password",
                 true, UserRole.USER, "https://oldProfileImageUrl.png");
 
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: unique_username");
+
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(true);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(true);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The username 'alreadyUsed' is already in use by another account. Please choose a different one");
 
         // Act
@@ -463,8 +473,10 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("alreadyUsed");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("alreadyUsed");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
+        inOrder.verify(userDao).save(userToUpdate);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
         inOrder.verify(userUtils).getErrorsAsString(List.of("The username 'alreadyUsed' is already in use by another account. Please choose a different one"));
         inOrder.verifyNoMoreInteractions();
 
@@ -472,6 +484,43 @@ class AdminServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("errors", "The username 'alreadyUsed' is already in use by another account. Please choose a different one"));
     }
 
+    @Test
+    void shouldReturnGenericError_whenViolatedIndexIsUnknown() {
+        // Arrange
+        AdminUpdateUserRequest request = buildAdminUpdateUserRequest("new.email@gmail.com",
+                "alreadyUsed", false, "ADMIN", "https://newProfileImageUrl.jpg");
+
+        User userToUpdate = buildUser("id", "oldUsername", "old.email@gmail.com", "password",
+                true, UserRole.USER, "https://oldProfileImageUrl.png");
+
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: _id_");
+
+        when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
+        when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
+        when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userUtils.getErrorsAsString(anyList())).thenReturn("The username or email address is already in use by another account");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminService.updateUser("id", request);
+
+        // Assert
+        InOrder inOrder = inOrder(userDao, userUtils, imageService);
+        inOrder.verify(userDao).findById("id");
+        inOrder.verify(userUtils).isInvalidUsername("alreadyUsed");
+        inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
+        inOrder.verify(userDao).save(userToUpdate);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
+        inOrder.verify(userUtils).getErrorsAsString(List.of("The username or email address is already in use by another account"));
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(singletonMap("errors", "The username or email address is already in use by another account"));
+    }
+
     @Test
     void shouldReturnBadRequest_whenUsernameIsSameAsCurrent() {
         // Arrange
@@ -483,7 +532,6 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The new username must be different from the current one");
 
@@ -494,7 +542,6 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("oldUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("oldUsername");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The new username must be different from the current one"));
         inOrder.verifyNoMoreInteractions();
@@ -514,7 +561,6 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(true);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The provided email format is invalid. Please enter a valid email address");
@@ -526,7 +572,6 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("invalidEmail");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The provided email format is invalid. Please enter a valid email address"));
@@ -545,12 +590,15 @@ class AdminServiceTest {
         User userToUpdate = buildUser("id", "oldUsername", "old.email@gmail.com", "password",
                 true, UserRole.USER, "https://oldProfileImageUrl.png");
 
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: unique_email");
+
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(true);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(true);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The email address 'alreadyUsed' is already associated with another account");
 
         // Act
@@ -560,10 +608,11 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("alreadyUsed");
-        inOrder.verify(userDao).isEmailAlreadyUsed("alreadyUsed");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
+        inOrder.verify(userDao).save(userToUpdate);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
         inOrder.verify(userUtils).getErrorsAsString(List.of("The email address 'alreadyUsed' is already associated with another account"));
         inOrder.verifyNoMoreInteractions();
 
@@ -582,9 +631,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The new email address must be different from the current one");
 
@@ -595,9 +642,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("old.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("old.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The new email address must be different from the current one"));
         inOrder.verifyNoMoreInteractions();
@@ -617,9 +662,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The new role must be different from the current one");
 
@@ -630,9 +673,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The new role must be different from the current one"));
         inOrder.verifyNoMoreInteractions();
@@ -652,9 +693,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Invalid role: NOT_VALID. Allowed values are: [USER, ADMIN]");
 
@@ -665,9 +704,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("Invalid role: NOT_VALID. Allowed values are: [USER, ADMIN]"));
         inOrder.verifyNoMoreInteractions();
@@ -687,9 +724,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The email verification status is already set to the provided value. No changes were made.");
 
@@ -700,9 +735,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://newProfileImageUrl.jpg");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The email verification status is already set to the provided value. No changes were made."));
         inOrder.verifyNoMoreInteractions();
@@ -722,9 +755,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.png);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The provided URL must start with 'https://'");
 
@@ -735,9 +766,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("notValid.png");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The provided URL must start with 'https://'"));
         inOrder.verifyNoMoreInteractions();
@@ -757,9 +786,7 @@ class AdminServiceTest {
 
         when(userDao.findById(anyString())).thenReturn(Optional.of(userToUpdate));
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(imageService.getImageExtension(anyString())).thenReturn(null);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The provided URL does not have a valid image format. Please provide a valid image URL");
 
@@ -770,9 +797,7 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(userDao, userUtils, imageService);
         inOrder.verify(userDao).findById("id");
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(imageService).getImageExtension("https://notValid");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The provided URL does not have a valid image format. Please provide a valid image URL"));
         inOrder.verifyNoMoreInteractions();
@@ -795,9 +820,11 @@ class AdminServiceTest {
         User authenticatedUser = buildUser("id", "username", null, null, true, UserRole.ADMIN, null);
 
         when(imageService.getImageExtension("filename1.jpg")).thenReturn(ImageExtension.jpg);
-        when(imageUtils.uploadImage(file1)).thenReturn("https://picture1.jpg");
         when(imageService.getImageExtension("filename2.png")).thenReturn(ImageExtension.png);
-        when(imageUtils.uploadImage(file2)).thenReturn("https://picture2.png");
+        when(imageUtils.hashImage(file1)).thenReturn("hash1");
+        when(imageUtils.hashImage(file2)).thenReturn("hash2");
+        when(imageService.getUrlsByContentHashes(Set.of("hash1", "hash2"))).thenReturn(Map.of());
+        when(imageUtils.uploadImages(List.of(file1, file2))).thenReturn(List.of("https://picture1.jpg", "https://picture2.png"));
         when(uuidProvider.generateUuid())
                 .thenReturn("hotelId")
                 .thenReturn("hotelLocationId");
@@ -826,13 +853,21 @@ class AdminServiceTest {
                 .rooms(emptyList())
                 .build();
 
+        List<Image> expectedImages = List.of(
+                Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.jpg").url("https://picture1.jpg").extension(ImageExtension.jpg).uploaderId("id").contentHash("hash1").build(),
+                Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.png").url("https://picture2.png").extension(ImageExtension.png).uploaderId("id").contentHash("hash2").build());
+
         InOrder inOrder = inOrder(imageService, imageUtils, uuidProvider, hotelDao);
         inOrder.verify(imageService).getImageExtension("filename1.jpg");
-        inOrder.verify(imageUtils).uploadImage(picture_list.get(0));
-        inOrder.verify(imageService).saveNewImage(ImageCategory.HOTEL, "hotel-image-name.jpg", "https://picture1.jpg", ImageExtension.jpg, "id");
+        inOrder.verify(imageService).validateUploadedImage(file1, ImageExtension.jpg);
         inOrder.verify(imageService).getImageExtension("filename2.png");
-        inOrder.verify(imageUtils).uploadImage(picture_list.get(1));
-        inOrder.verify(imageService).saveNewImage(ImageCategory.HOTEL, "hotel-image-name.png", "https://picture2.png", ImageExtension.png, "id");
+        inOrder.verify(imageService).validateUploadedImage(file2, ImageExtension.png);
+        inOrder.verify(imageUtils).hashImage(file1);
+        inOrder.verify(imageUtils).hashImage(file2);
+        inOrder.verify(imageService).getUrlsByContentHashes(Set.of("hash1", "hash2"));
+        inOrder.verify(imageUtils).uploadImages(List.of(file1, file2));
+        inOrder.verify(imageService).saveNewImages(expectedImages);
+        inOrder.verify(imageService).generateVariants(expectedImages, List.of(file1, file2));
         inOrder.verify(uuidProvider, times(2)).generateUuid();
         inOrder.verify(hotelDao).save(expectedHotel);
         inOrder.verifyNoMoreInteractions();
@@ -843,6 +878,144 @@ class AdminServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("message", "Hotel created successfully"));
     }
 
+    @Test
+    void shouldCreateHotel_andReportPictureFailures() throws IOException {
+        // Arrange
+        CreateHotelRequest request = buildCreateHotelRequest("name", "description", "address",
+                "city", "state", "country", "postalCode", "https://googleMapsUrl",
+                List.of("WIFI", "BAR"));
+
+        MockMultipartFile file1 = new MockMultipartFile("file1", "filename1.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3, 4, 5});
+        MockMultipartFile file2 = new MockMultipartFile("file2", "filename2.gif", MediaType.IMAGE_GIF_VALUE, new byte[]{1, 2, 3, 4, 5});
+        MockMultipartFile file3 = new MockMultipartFile("file3", "filename3.png", MediaType.IMAGE_PNG_VALUE, new byte[]{1, 2, 3, 4, 5});
+        List<MultipartFile> picture_list = List.of(file1, file2, file3);
+
+        User authenticatedUser = buildUser("id", "username", null, null, true, UserRole.ADMIN, null);
+
+        List<String> uploadedUrls = new ArrayList<>();
+        uploadedUrls.add("https://picture1.jpg");
+        uploadedUrls.add(null);
+
+        when(imageService.getImageExtension("filename1.jpg")).thenReturn(ImageExtension.jpg);
+        when(imageService.getImageExtension("filename2.gif")).thenReturn(null);
+        when(imageService.getImageExtension("filename3.png")).thenReturn(ImageExtension.png);
+        when(imageUtils.hashImage(file1)).thenReturn("hash1");
+        when(imageUtils.hashImage(file3)).thenReturn("hash3");
+        when(imageService.getUrlsByContentHashes(Set.of("hash1", "hash3"))).thenReturn(Map.of());
+        when(imageUtils.uploadImages(List.of(file1, file3))).thenReturn(uploadedUrls);
+        when(uuidProvider.generateUuid())
+                .thenReturn("hotelId")
+                .thenReturn("hotelLocationId");
+        when(userUtils.getErrorsAsString(any())).thenReturn("Unsupported picture format: filename2.gif | Failed to upload picture: filename3.png");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminService.createHotel(authenticatedUser, request, picture_list);
+
+        // Assert
+        ArgumentCaptor<Hotel> hotelCaptor = ArgumentCaptor.forClass(Hotel.class);
+
+        InOrder inOrder = inOrder(imageService, imageUtils, hotelDao, userUtils);
+        inOrder.verify(imageUtils).uploadImages(List.of(file1, file3));
+        inOrder.verify(imageService).saveNewImages(List.of(
+                Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.jpg").url("https://picture1.jpg").extension(ImageExtension.jpg).uploaderId("id").contentHash("hash1").build()));
+        inOrder.verify(imageService).generateVariants(anyList(), eq(List.of(file1)));
+        inOrder.verify(hotelDao).save(hotelCaptor.capture());
+        inOrder.verify(userUtils).getErrorsAsString(List.of("Unsupported picture format: filename2.gif", "Failed to upload picture: filename3.png"));
+
+        assertThat(hotelCaptor.getValue().getPicture_list()).containsExactly("https://picture1.jpg");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(Map.of(
+                "message", "Hotel created successfully",
+                "errors", "Unsupported picture format: filename2.gif | Failed to upload picture: filename3.png"));
+    }
+
+    @Test
+    void shouldCreateHotel_andReuseKnownPictures() throws IOException {
+        // Arrange
+        CreateHotelRequest request = buildCreateHotelRequest("name", "description", "address",
+                "city", "state", "country", "postalCode", "https://googleMapsUrl",
+                List.of("WIFI", "BAR"));
+
+        MockMultipartFile file1 = new MockMultipartFile("file1", "filename1.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3, 4, 5});
+        MockMultipartFile file2 = new MockMultipartFile("file2", "filename2.png", MediaType.IMAGE_PNG_VALUE, new byte[]{6, 7, 8});
+        MockMultipartFile file3 = new MockMultipartFile("file3", "filename3.png", MediaType.IMAGE_PNG_VALUE, new byte[]{6, 7, 8});
+        List<MultipartFile> picture_list = List.of(file1, file2, file3);
+
+        User authenticatedUser = buildUser("id", "username", null, null, true, UserRole.ADMIN, null);
+
+        when(imageService.getImageExtension("filename1.jpg")).thenReturn(ImageExtension.jpg);
+        when(imageService.getImageExtension("filename2.png")).thenReturn(ImageExtension.png);
+        when(imageService.getImageExtension("filename3.png")).thenReturn(ImageExtension.png);
+        when(imageUtils.hashImage(file1)).thenReturn("hash1");
+        when(imageUtils.hashImage(file2)).thenReturn("hash2");
+        when(imageUtils.hashImage(file3)).thenReturn("hash2");
+        when(imageService.getUrlsByContentHashes(Set.of("hash1", "hash2"))).thenReturn(Map.of("hash1", "https://known.jpg"));
+        when(imageUtils.uploadImages(List.of(file2))).thenReturn(List.of("https://picture2.png"));
+        when(uuidProvider.generateUuid())
+                .thenReturn("hotelId")
+                .thenReturn("hotelLocationId");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminService.createHotel(authenticatedUser, request, picture_list);
+
+        // Assert
+        ArgumentCaptor<Hotel> hotelCaptor = ArgumentCaptor.forClass(Hotel.class);
+
+        InOrder inOrder = inOrder(imageService, imageUtils, hotelDao);
+        inOrder.verify(imageService).getUrlsByContentHashes(Set.of("hash1", "hash2"));
+        inOrder.verify(imageUtils).uploadImages(List.of(file2));
+        inOrder.verify(imageService).saveNewImages(List.of(
+                Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.png").url("https://picture2.png").extension(ImageExtension.png).uploaderId("id").contentHash("hash2").build()));
+        inOrder.verify(imageService).generateVariants(anyList(), eq(List.of(file2)));
+        inOrder.verify(hotelDao).save(hotelCaptor.capture());
+        inOrder.verifyNoMoreInteractions();
+
+        verifyNoInteractions(userUtils);
+
+        assertThat(hotelCaptor.getValue().getPicture_list()).containsExactly("https://known.jpg", "https://picture2.png");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(singletonMap("message", "Hotel created successfully"));
+    }
+
+    @Test
+    void shouldCreateHotel_andRejectInvalidPictureContentBeforeUpload() throws IOException {
+        // Arrange
+        CreateHotelRequest request = buildCreateHotelRequest("name", "description", "address",
+                "city", "state", "country", "postalCode", "https://googleMapsUrl",
+                List.of("WIFI", "BAR"));
+
+        MockMultipartFile file1 = new MockMultipartFile("file1", "filename1.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3, 4, 5});
+        MockMultipartFile file2 = new MockMultipartFile("file2", "filename2.png", MediaType.IMAGE_PNG_VALUE, new byte[]{6, 7, 8});
+        List<MultipartFile> picture_list = List.of(file1, file2);
+
+        User authenticatedUser = buildUser("id", "username", null, null, true, UserRole.ADMIN, null);
+
+        when(imageService.getImageExtension("filename1.jpg")).thenReturn(ImageExtension.jpg);
+        when(imageService.getImageExtension("filename2.png")).thenReturn(ImageExtension.png);
+        when(imageService.validateUploadedImage(file1, ImageExtension.jpg)).thenReturn(null);
+        when(imageService.validateUploadedImage(file2, ImageExtension.png)).thenReturn("Picture content does not match its png extension");
+        when(imageUtils.hashImage(file1)).thenReturn("hash1");
+        when(imageService.getUrlsByContentHashes(Set.of("hash1"))).thenReturn(Map.of());
+        when(imageUtils.uploadImages(List.of(file1))).thenReturn(List.of("https://picture1.jpg"));
+        when(uuidProvider.generateUuid())
+                .thenReturn("hotelId")
+                .thenReturn("hotelLocationId");
+        when(userUtils.getErrorsAsString(any())).thenReturn("Picture content does not match its png extension: filename2.png");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminService.createHotel(authenticatedUser, request, picture_list);
+
+        // Assert
+        verify(imageUtils, never()).hashImage(file2);
+        verify(imageUtils).uploadImages(List.of(file1));
+        verify(userUtils).getErrorsAsString(List.of("Picture content does not match its png extension: filename2.png"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(Map.of(
+                "message", "Hotel created successfully",
+                "errors", "Picture content does not match its png extension: filename2.png"));
+    }
+
     @Test
     void shouldReturnBadRequest_whenHotelNameIsNull() {
         // Arrange
@@ -2111,6 +2284,8 @@ class AdminServiceTest {
 
         when(hotelDao.findById(anyString())).thenReturn(Optional.of(hotel));
         when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
+        when(imageUtils.hashImage(any())).thenReturn("contentHash");
+        when(imageService.getUrlsByContentHashes(anyCollection())).thenReturn(Map.of());
         when(imageUtils.uploadImage(any())).thenReturn("imageUrl");
 
         // Act
@@ -2130,8 +2305,19 @@ class AdminServiceTest {
         InOrder inOrder = inOrder(hotelDao, imageService, imageUtils, hotelDao);
         inOrder.verify(hotelDao).findById("hotelId");
         inOrder.verify(imageService).getImageExtension("picture.jpg");
+        inOrder.verify(imageService).validateUploadedImage(picture, ImageExtension.jpg);
+        inOrder.verify(imageUtils).hashImage(picture);
+        inOrder.verify(imageService).getUrlsByContentHashes(List.of("contentHash"));
         inOrder.verify(imageUtils).uploadImage(picture);
-        inOrder.verify(imageService).saveNewImage(ImageCategory.HOTEL, "hotel-image-name.jpg", "imageUrl", ImageExtension.jpg, "authenticatedUserId");
+        inOrder.verify(imageService).saveNewImages(List.of(Image.builder()
+                .category(ImageCategory.HOTEL)
+                .name("hotel-image-name.jpg")
+                .url("imageUrl")
+                .extension(ImageExtension.jpg)
+                .uploaderId("authenticatedUserId")
+                .contentHash("contentHash")
+                .build()));
+        inOrder.verify(imageService).generateVariants(anyList(), eq(List.of(picture)));
         inOrder.verify(hotelDao).save(expectedHotel);
         inOrder.verifyNoMoreInteractions();
 
@@ -2139,6 +2325,44 @@ class AdminServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("message", "Picture added successfully"));
     }
 
+    @Test
+    void shouldAddPictureToHotel_andReuseKnownPicture() throws IOException {
+        // Arrange
+        Hotel hotel = Hotel.builder()
+                .id("hotelId")
+                .name("name")
+                .picture_list(List.of("https://picture1.jpg"))
+                .build();
+
+        User authenticatedUser = User.builder()
+                .id("authenticatedUserId")
+                .build();
+
+        MockMultipartFile picture = new MockMultipartFile("picture", "picture.jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3, 4, 5});
+
+        when(hotelDao.findById(anyString())).thenReturn(Optional.of(hotel));
+        when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.jpg);
+        when(imageUtils.hashImage(any())).thenReturn("contentHash");
+        when(imageService.getUrlsByContentHashes(anyCollection())).thenReturn(Map.of("contentHash", "https://known.jpg"));
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminService.addHotelPicture(authenticatedUser, "hotelId", picture);
+
+        // Assert
+        InOrder inOrder = inOrder(hotelDao, imageService, imageUtils);
+        inOrder.verify(hotelDao).findById("hotelId");
+        inOrder.verify(imageService).getImageExtension("picture.jpg");
+        inOrder.verify(imageService).validateUploadedImage(picture, ImageExtension.jpg);
+        inOrder.verify(imageUtils).hashImage(picture);
+        inOrder.verify(imageService).getUrlsByContentHashes(List.of("contentHash"));
+        inOrder.verify(hotelDao).save(hotel);
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(hotel.getPicture_list()).containsExactly("https://picture1.jpg", "https://known.jpg");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(singletonMap("message", "Picture added successfully"));
+    }
+
     @Test
     void shouldReturnNotFound_whenHotelDoesNotExistInDatabase() {
         // Arrange
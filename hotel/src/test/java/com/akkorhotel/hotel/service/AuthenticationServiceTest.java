@@ -3,23 +3,30 @@ package com.akkorhotel.hotel.service;
 import com.akkorhotel.hotel.configuration.EnvConfiguration;
 import com.akkorhotel.hotel.dao.UserDao;
 import com.akkorhotel.hotel.model.User;
+import com.akkorhotel.hotel.model.UserRole;
 import com.akkorhotel.hotel.model.request.LoginRequest;
 import com.akkorhotel.hotel.utils.UserUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -40,7 +47,7 @@ class AuthenticationServiceTest {
     private JwtTokenService jwtTokenService;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private UserUtils userUtils;
@@ -48,6 +55,12 @@ class AuthenticationServiceTest {
     @Mock
     private EnvConfiguration envConfiguration;
 
+    @Mock
+    private UserTokenVersionService userTokenVersionService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Test
     void shouldReturnOkAndRegisterNewUser() {
         // Arrange
@@ -60,21 +73,19 @@ class AuthenticationServiceTest {
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
         when(userUtils.isInvalidPassword(anyString())).thenReturn(false);
-        when(userDao.isUserInDatabase(anyString(), anyString())).thenReturn(false);
         when(uuidProvider.generateUuid()).thenReturn("anyId");
 
         // Act
         ResponseEntity<Map<String, String>> response = authenticationService.register(user);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, passwordHashingService);
         inOrder.verify(userUtils).isInvalidEmail("alice@example.com");
         inOrder.verify(userUtils).isInvalidUsername("alice123");
         inOrder.verify(userUtils).isInvalidPassword("AliceStrongP@ss1!");
-        inOrder.verify(userDao).isUserInDatabase("alice123", "alice@example.com");
         inOrder.verify(uuidProvider).generateUuid();
-        inOrder.verify(passwordEncoder).encode("AliceStrongP@ss1!");
-        inOrder.verify(userDao).save(user);
+        inOrder.verify(passwordHashingService).encode("AliceStrongP@ss1!");
+        inOrder.verify(userDao).insert(user);
         inOrder.verify(userUtils, times(1)).sendRegisterConfirmationEmail(user);
         inOrder.verifyNoMoreInteractions();
 
@@ -101,7 +112,7 @@ class AuthenticationServiceTest {
         verifyNoMoreInteractions(userUtils);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "The provided email is not valid."));
-        verifyNoInteractions(userDao, uuidProvider, passwordEncoder, envConfiguration);
+        verifyNoInteractions(userDao, uuidProvider, passwordHashingService, envConfiguration);
     }
 
     @Test
@@ -127,7 +138,7 @@ class AuthenticationServiceTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "The username must be between 3 and 11 characters long and must not contain spaces."));
-        verifyNoInteractions(userDao, uuidProvider, passwordEncoder, envConfiguration);
+        verifyNoInteractions(userDao, uuidProvider, passwordHashingService, envConfiguration);
     }
 
     @Test
@@ -155,7 +166,7 @@ class AuthenticationServiceTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "The password does not meet the required criteria."));
-        verifyNoInteractions(userDao, uuidProvider, passwordEncoder, envConfiguration);
+        verifyNoInteractions(userDao, uuidProvider, passwordHashingService, envConfiguration);
     }
 
     @Test
@@ -170,20 +181,24 @@ class AuthenticationServiceTest {
         when(userUtils.isInvalidEmail(any())).thenReturn(false);
         when(userUtils.isInvalidUsername(any())).thenReturn(false);
         when(userUtils.isInvalidPassword(any())).thenReturn(false);
-        when(userDao.isUserInDatabase(anyString(), eq("alreadyUsed@example.com"))).thenReturn(true);
+        when(uuidProvider.generateUuid()).thenReturn("anyId");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        doThrow(new DuplicateKeyException("E11000 duplicate key error")).when(userDao).insert(any(User.class));
 
         // Act
         ResponseEntity<Map<String, String>> response = authenticationService.register(user);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, userDao);
+        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, passwordHashingService);
         inOrder.verify(userUtils).isInvalidEmail("alreadyUsed@example.com");
         inOrder.verify(userUtils).isInvalidUsername("alice123");
         inOrder.verify(userUtils).isInvalidPassword("AliceStrongP@ss1!");
-        inOrder.verify(userDao).isUserInDatabase(anyString(), eq("alreadyUsed@example.com"));
+        inOrder.verify(uuidProvider).generateUuid();
+        inOrder.verify(passwordHashingService).encode("AliceStrongP@ss1!");
+        inOrder.verify(userDao).insert(user);
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(uuidProvider, passwordEncoder, envConfiguration);
+        verify(userUtils, never()).sendRegisterConfirmationEmail(any());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "A user with this email or username already exists."));
@@ -201,20 +216,24 @@ class AuthenticationServiceTest {
         when(userUtils.isInvalidEmail(any())).thenReturn(false);
         when(userUtils.isInvalidUsername(any())).thenReturn(false);
         when(userUtils.isInvalidPassword(any())).thenReturn(false);
-        when(userDao.isUserInDatabase(eq("alreadyUsed"), anyString())).thenReturn(true);
+        when(uuidProvider.generateUuid()).thenReturn("anyId");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        doThrow(new DuplicateKeyException("E11000 duplicate key error")).when(userDao).insert(any(User.class));
 
         // Act
         ResponseEntity<Map<String, String>> response = authenticationService.register(user);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, userDao);
+        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, passwordHashingService);
         inOrder.verify(userUtils).isInvalidEmail("alice@example.com");
         inOrder.verify(userUtils).isInvalidUsername("alreadyUsed");
         inOrder.verify(userUtils).isInvalidPassword("AliceStrongP@ss1!");
-        inOrder.verify(userDao).isUserInDatabase(eq("alreadyUsed"), any());
+        inOrder.verify(uuidProvider).generateUuid();
+        inOrder.verify(passwordHashingService).encode("AliceStrongP@ss1!");
+        inOrder.verify(userDao).insert(user);
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(uuidProvider, passwordEncoder, envConfiguration);
+        verify(userUtils, never()).sendRegisterConfirmationEmail(any());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "A user with this email or username already exists."));
@@ -232,7 +251,6 @@ class AuthenticationServiceTest {
         when(userUtils.isInvalidEmail(any())).thenReturn(false);
         when(userUtils.isInvalidUsername(any())).thenReturn(false);
         when(userUtils.isInvalidPassword(any())).thenReturn(false);
-        when(userDao.isUserInDatabase(anyString(), anyString())).thenReturn(false);
         when(uuidProvider.generateUuid()).thenReturn("anyId");
         when(envConfiguration.getDefaultUserProfileImage()).thenReturn("anyImage");
         when(userUtils.sendRegisterConfirmationEmail(any())).thenReturn("Failed to send the registration confirmation email. Please try again later.");
@@ -241,15 +259,14 @@ class AuthenticationServiceTest {
         ResponseEntity<Map<String, String>> response = authenticationService.register(user);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, jwtTokenService, passwordEncoder, envConfiguration);
+        InOrder inOrder = inOrder(userUtils, userDao, uuidProvider, jwtTokenService, passwordHashingService, envConfiguration);
         inOrder.verify(userUtils).isInvalidEmail("alice@example.com");
         inOrder.verify(userUtils).isInvalidUsername("alice123");
         inOrder.verify(userUtils).isInvalidPassword("AliceStrongP@ss1!");
-        inOrder.verify(userDao).isUserInDatabase("alice123", "alice@example.com");
         inOrder.verify(uuidProvider).generateUuid();
-        inOrder.verify(passwordEncoder).encode("AliceStrongP@ss1!");
+        inOrder.verify(passwordHashingService).encode("AliceStrongP@ss1!");
         inOrder.verify(envConfiguration).getDefaultUserProfileImage();
-        inOrder.verify(userDao).save(user);
+        inOrder.verify(userDao).insert(user);
         inOrder.verify(userUtils).sendRegisterConfirmationEmail(user);
         inOrder.verifyNoMoreInteractions();
 
@@ -270,21 +287,91 @@ class AuthenticationServiceTest {
                         .password("encodedUserPassword")
                         .isValidEmail(true)
                 .build()));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtTokenService.generateToken(anyString())).thenReturn("anyToken");
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(userTokenVersionService.loadCurrentVersion(anyString())).thenReturn(2L);
+        when(jwtTokenService.generateToken(anyString(), any(UserRole.class), anyLong())).thenReturn("anyToken");
+        when(jwtTokenService.generateRefreshToken(anyString(), anyLong())).thenReturn("anyRefreshToken");
 
         // Act
         ResponseEntity<Map<String, String>> response = authenticationService.login(loginRequest);
 
         // Assert
-        InOrder inOrder = inOrder(userDao, passwordEncoder, jwtTokenService);
+        InOrder inOrder = inOrder(userDao, passwordHashingService, userTokenVersionService, jwtTokenService);
         inOrder.verify(userDao).findByEmail("userEmail");
-        inOrder.verify(passwordEncoder).matches("userPassword", "encodedUserPassword");
-        inOrder.verify(jwtTokenService).generateToken("userId");
+        inOrder.verify(passwordHashingService).matches("userPassword", "encodedUserPassword");
+        inOrder.verify(passwordHashingService).needsUpgrade("encodedUserPassword");
+        inOrder.verify(userTokenVersionService).loadCurrentVersion("userId");
+        inOrder.verify(jwtTokenService).generateToken("userId", UserRole.USER, 2L);
+        inOrder.verify(jwtTokenService).generateRefreshToken("userId", 2L);
         inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(singletonMap("token", "anyToken"));
+        assertThat(response.getBody()).isEqualTo(Map.of("token", "anyToken", "refreshToken", "anyRefreshToken"));
+    }
+
+    @Test
+    void shouldUpgradePasswordHash_whenStoredHashUsesLowerWorkFactor() {
+        // Arrange
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("userEmail");
+        loginRequest.setPassword("userPassword");
+
+        User user = User.builder()
+                .id("userId")
+                .email("userEmail")
+                .password("weakEncodedUserPassword")
+                .isValidEmail(true)
+                .build();
+
+        when(userDao.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHashingService.needsUpgrade(anyString())).thenReturn(true);
+        when(passwordHashingService.encode(anyString())).thenReturn("strongEncodedUserPassword");
+        when(jwtTokenService.generateToken(anyString(), any(UserRole.class), anyLong())).thenReturn("anyToken");
+        when(jwtTokenService.generateRefreshToken(anyString(), anyLong())).thenReturn("anyRefreshToken");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.login(loginRequest);
+
+        // Assert
+        InOrder inOrder = inOrder(userDao, passwordHashingService, jwtTokenService);
+        inOrder.verify(userDao).findByEmail("userEmail");
+        inOrder.verify(passwordHashingService).matches("userPassword", "weakEncodedUserPassword");
+        inOrder.verify(passwordHashingService).needsUpgrade("weakEncodedUserPassword");
+        inOrder.verify(passwordHashingService).encode("userPassword");
+        inOrder.verify(userDao).save(user);
+        inOrder.verify(jwtTokenService).generateToken("userId", UserRole.USER, 0L);
+        inOrder.verify(jwtTokenService).generateRefreshToken("userId", 0L);
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(user.getPassword()).isEqualTo("strongEncodedUserPassword");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(Map.of("token", "anyToken", "refreshToken", "anyRefreshToken"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailable_whenPasswordHashingIsSaturatedDuringLogin() {
+        // Arrange
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("userEmail");
+        loginRequest.setPassword("userPassword");
+
+        when(userDao.findByEmail(anyString())).thenReturn(Optional.of(User.builder()
+                .id("userId")
+                .email("userEmail")
+                .password("encodedUserPassword")
+                .isValidEmail(true)
+                .build()));
+        when(passwordHashingService.matches(anyString(), anyString())).thenThrow(new RejectedExecutionException());
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.login(loginRequest);
+
+        // Assert
+        verifyNoInteractions(jwtTokenService, userTokenVersionService);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isEqualTo(singletonMap("error", "Too many authentication requests. Please try again later."));
     }
 
     @Test
@@ -303,7 +390,7 @@ class AuthenticationServiceTest {
         verify(userDao).findByEmail("userEmail");
 
         verifyNoMoreInteractions(userDao);
-        verifyNoInteractions(passwordEncoder, jwtTokenService);
+        verifyNoInteractions(passwordHashingService, jwtTokenService);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "User not found"));
@@ -328,7 +415,7 @@ class AuthenticationServiceTest {
         verify(userDao).findByEmail("userEmail");
 
         verifyNoMoreInteractions(userDao);
-        verifyNoInteractions(passwordEncoder, jwtTokenService);
+        verifyNoInteractions(passwordHashingService, jwtTokenService);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "Email is not verified"));
@@ -347,18 +434,18 @@ class AuthenticationServiceTest {
                 .password("encodedUserPassword")
                 .build()));
 
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
         // Act
         ResponseEntity<Map<String, String>> response = authenticationService.login(loginRequest);
 
         // Assert
-        InOrder inOrder = inOrder(userDao, passwordEncoder);
+        InOrder inOrder = inOrder(userDao, passwordHashingService);
         inOrder.verify(userDao).findByEmail("userEmail");
-        inOrder.verify(passwordEncoder).matches("incorrectPassword", "encodedUserPassword");
+        inOrder.verify(passwordHashingService).matches("incorrectPassword", "encodedUserPassword");
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoMoreInteractions(userDao, passwordEncoder);
+        verifyNoMoreInteractions(userDao, passwordHashingService);
         verifyNoInteractions(jwtTokenService);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
@@ -545,4 +632,110 @@ class AuthenticationServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "Failed to send the registration confirmation email. Please try again later."));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldRotateRefreshTokenAndReturnNewTokens() {
+        // Arrange
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        Claims claims = Jwts.claims().setSubject("userId").setId("refreshTokenId").setExpiration(expiration);
+        claims.put("ver", 2L);
+
+        when(jwtTokenService.resolveRefreshTokenClaims(anyString())).thenReturn(claims);
+        when(tokenRevocationService.tryRevoke(anyString(), anyString(), any(Date.class))).thenReturn(true);
+        when(jwtTokenService.resolveTokenVersion(any(Claims.class))).thenReturn(2L);
+        when(userTokenVersionService.isTokenVersionValid(anyString(), anyLong())).thenReturn(true);
+        when(userDao.findById(anyString())).thenReturn(Optional.of(User.builder().id("userId").build()));
+        when(userTokenVersionService.loadCurrentVersion(anyString())).thenReturn(2L);
+        when(jwtTokenService.generateToken(anyString(), any(UserRole.class), anyLong())).thenReturn("newToken");
+        when(jwtTokenService.generateRefreshToken(anyString(), anyLong())).thenReturn("newRefreshToken");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.refreshToken("refreshToken");
+
+        // Assert
+        InOrder inOrder = inOrder(jwtTokenService, tokenRevocationService, userTokenVersionService, userDao);
+        inOrder.verify(jwtTokenService).resolveRefreshTokenClaims("refreshToken");
+        inOrder.verify(tokenRevocationService).tryRevoke("refreshTokenId", "userId", claims.getExpiration());
+        inOrder.verify(jwtTokenService).resolveTokenVersion(claims);
+        inOrder.verify(userTokenVersionService).isTokenVersionValid("userId", 2L);
+        inOrder.verify(userDao).findById("userId");
+        inOrder.verify(userTokenVersionService).loadCurrentVersion("userId");
+        inOrder.verify(jwtTokenService).generateToken("userId", UserRole.USER, 2L);
+        inOrder.verify(jwtTokenService).generateRefreshToken("userId", 2L);
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(Map.of("token", "newToken", "refreshToken", "newRefreshToken"));
+    }
+
+    @Test
+    void shouldReturnUnauthorized_whenRefreshTokenIsInvalid() {
+        // Arrange
+        when(jwtTokenService.resolveRefreshTokenClaims(anyString())).thenReturn(null);
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.refreshToken("invalidRefreshToken");
+
+        // Assert
+        verify(jwtTokenService).resolveRefreshTokenClaims("invalidRefreshToken");
+        verifyNoMoreInteractions(jwtTokenService);
+        verifyNoInteractions(tokenRevocationService, userTokenVersionService, userDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).isEqualTo(singletonMap("error", "Invalid or expired refresh token"));
+    }
+
+    @Test
+    void shouldRevokeAllUserTokens_whenRevokedRefreshTokenIsReused() {
+        // Arrange
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        Claims claims = Jwts.claims().setSubject("userId").setId("refreshTokenId").setExpiration(expiration);
+
+        when(jwtTokenService.resolveRefreshTokenClaims(anyString())).thenReturn(claims);
+        when(tokenRevocationService.tryRevoke(anyString(), anyString(), any(Date.class))).thenReturn(false);
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.refreshToken("reusedRefreshToken");
+
+        // Assert
+        InOrder inOrder = inOrder(jwtTokenService, tokenRevocationService, userTokenVersionService);
+        inOrder.verify(jwtTokenService).resolveRefreshTokenClaims("reusedRefreshToken");
+        inOrder.verify(tokenRevocationService).tryRevoke("refreshTokenId", "userId", claims.getExpiration());
+        inOrder.verify(userTokenVersionService).incrementVersion("userId");
+        inOrder.verifyNoMoreInteractions();
+
+        verifyNoInteractions(userDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).isEqualTo(singletonMap("error", "Invalid or expired refresh token"));
+    }
+
+    @Test
+    void shouldRevokeRefreshAndAccessTokensOnLogout() {
+        // Arrange
+        Date refreshExpiration = new Date(System.currentTimeMillis() + 60000);
+        Date accessExpiration = new Date(System.currentTimeMillis() + 30000);
+        Claims refreshTokenClaims = Jwts.claims().setSubject("userId").setId("refreshTokenId").setExpiration(refreshExpiration);
+        Claims accessTokenClaims = Jwts.claims().setSubject("userId").setId("accessTokenId").setExpiration(accessExpiration);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        when(jwtTokenService.resolveRefreshTokenClaims(anyString())).thenReturn(refreshTokenClaims);
+        when(jwtTokenService.resolveClaimsFromRequest(any(HttpServletRequest.class))).thenReturn(accessTokenClaims);
+        when(jwtTokenService.isAccessToken(any(Claims.class))).thenReturn(true);
+
+        // Act
+        ResponseEntity<Map<String, String>> response = authenticationService.logout("refreshToken", request);
+
+        // Assert
+        InOrder inOrder = inOrder(jwtTokenService, tokenRevocationService);
+        inOrder.verify(jwtTokenService).resolveRefreshTokenClaims("refreshToken");
+        inOrder.verify(tokenRevocationService).revoke("refreshTokenId", "userId", refreshTokenClaims.getExpiration());
+        inOrder.verify(jwtTokenService).resolveClaimsFromRequest(request);
+        inOrder.verify(jwtTokenService).isAccessToken(accessTokenClaims);
+        inOrder.verify(tokenRevocationService).revoke("accessTokenId", "userId", accessTokenClaims.getExpiration());
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(singletonMap("message", "Successfully logged out"));
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.BookingDao;
+import com.akkorhotel.hotel.dao.DispatchCheckpointDao;
+import com.akkorhotel.hotel.dao.UserDao;
+import com.akkorhotel.hotel.model.*;
+import com.akkorhotel.hotel.utils.MailTemplates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingNotificationServiceTest {
+
+    @InjectMocks
+    private BookingNotificationService bookingNotificationService;
+
+    @Mock
+    private BookingDao bookingDao;
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private DispatchCheckpointDao dispatchCheckpointDao;
+
+    @Mock
+    private EmailService emailService;
+
+    @Spy
+    private MailTemplates mailTemplates = new MailTemplates();
+
+    @Mock
+    private EnvConfiguration envConfiguration;
+
+    @Mock
+    private UuidProvider uuidProvider;
+
+    private static final LocalDate DISPATCH_DATE = LocalDate.of(2026, 5, 1);
+
+    @Test
+    void shouldQueueBookingRemindersInBatches_andCheckpointProgress() {
+        // Arrange
+        Booking firstBooking = buildBooking("bookingId1", "aliceId", 2);
+        Booking secondBooking = buildBooking("bookingId2", "bobId", 1);
+        Booking thirdBooking = buildBooking("bookingId3", "aliceId", 3);
+
+        when(envConfiguration.getBookingReminderLeadDays()).thenReturn(1);
+        when(envConfiguration.getNotificationBatchSize()).thenReturn(2);
+        when(uuidProvider.generateUuid()).thenReturn("owner");
+        when(dispatchCheckpointDao.claim(eq("booking-reminders:2026-05-01"), eq("owner"), any(Date.class), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(buildCheckpoint("booking-reminders:2026-05-01", null)));
+        when(dispatchCheckpointDao.saveProgress(any(DispatchCheckpoint.class))).thenReturn(true);
+        when(bookingDao.streamActiveBookingsCheckingInBetween(any(Date.class), any(Date.class), isNull(), eq(2)))
+                .thenReturn(Stream.of(firstBooking, secondBooking, thirdBooking));
+        when(userDao.findContactsByIds(anyCollection())).thenReturn(List.of(
+                buildUser("aliceId", "alice", "alice@example.com"),
+                buildUser("bobId", "bob", "bob@example.com")));
+
+        // Act
+        bookingNotificationService.dispatchBookingReminders(DISPATCH_DATE);
+
+        // Assert
+        ArgumentCaptor<Date> fromCaptor = ArgumentCaptor.forClass(Date.class);
+        ArgumentCaptor<Date> toCaptor = ArgumentCaptor.forClass(Date.class);
+        verify(bookingDao).streamActiveBookingsCheckingInBetween(fromCaptor.capture(), toCaptor.capture(), isNull(), eq(2));
+        assertThat(fromCaptor.getValue()).isEqualTo(Date.from(LocalDate.of(2026, 5, 2).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        assertThat(toCaptor.getValue()).isEqualTo(Date.from(LocalDate.of(2026, 5, 3).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboundEmail>> emailsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(emailService, times(2)).sendEmails(emailsCaptor.capture());
+
+        List<OutboundEmail> firstBatch = emailsCaptor.getAllValues().get(0);
+        assertThat(firstBatch).extracting(OutboundEmail::getId).containsExactly("booking-reminder:bookingId1", "booking-reminder:bookingId2");
+        assertThat(firstBatch).extracting(OutboundEmail::getTo).containsExactly("alice@example.com", "bob@example.com");
+        assertThat(firstBatch.getFirst().getBody())
+                .contains("Bonjour alice !")
+                .contains("Hôtel &amp; Spa")
+                .contains("02/05/2026");
+        assertThat(emailsCaptor.getAllValues().get(1)).extracting(OutboundEmail::getId).containsExactly("booking-reminder:bookingId3");
+
+        ArgumentCaptor<DispatchCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(dispatchCheckpointDao, times(3)).saveProgress(checkpointCaptor.capture());
+        DispatchCheckpoint checkpoint = checkpointCaptor.getValue();
+        assertThat(checkpoint.getId()).isEqualTo("booking-reminders:2026-05-01");
+        assertThat(checkpoint.getOwner()).isEqualTo("owner");
+        assertThat(checkpoint.getLastBookingId()).isEqualTo("bookingId3");
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getLeaseExpiresAt()).isAfter(checkpoint.getUpdatedAt());
+        assertThat(checkpoint.getExpiresAt()).isAfter(checkpoint.getLeaseExpiresAt());
+    }
+
+    @Test
+    void shouldResumeBookingReminders_fromLastCheckpoint() {
+        // Arrange
+        DispatchCheckpoint checkpoint = buildCheckpoint("booking-reminders:2026-05-01", "bookingId2");
+
+        when(envConfiguration.getBookingReminderLeadDays()).thenReturn(1);
+        when(envConfiguration.getNotificationBatchSize()).thenReturn(2);
+        when(uuidProvider.generateUuid()).thenReturn("owner");
+        when(dispatchCheckpointDao.claim(eq("booking-reminders:2026-05-01"), eq("owner"), any(Date.class), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(checkpoint));
+        when(dispatchCheckpointDao.saveProgress(any(DispatchCheckpoint.class))).thenReturn(true);
+        when(bookingDao.streamActiveBookingsCheckingInBetween(any(Date.class), any(Date.class), eq("bookingId2"), eq(2)))
+                .thenReturn(Stream.of(buildBooking("bookingId3", "aliceId", 3)));
+        when(userDao.findContactsByIds(anyCollection())).thenReturn(List.of(buildUser("aliceId", "alice", "alice@example.com")));
+
+        // Act
+        bookingNotificationService.dispatchBookingReminders(DISPATCH_DATE);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboundEmail>> emailsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(emailService, times(1)).sendEmails(emailsCaptor.capture());
+        assertThat(emailsCaptor.getValue()).extracting(OutboundEmail::getId).containsExactly("booking-reminder:bookingId3");
+        assertThat(checkpoint.getLastBookingId()).isEqualTo("bookingId3");
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    void shouldNotDispatchBookingReminders_whenRunIsCompletedOrClaimedByAnotherInstance() {
+        // Arrange
+        when(uuidProvider.generateUuid()).thenReturn("owner");
+        when(dispatchCheckpointDao.claim(eq("booking-reminders:2026-05-01"), eq("owner"), any(Date.class), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        bookingNotificationService.dispatchBookingReminders(DISPATCH_DATE);
+
+        // Assert
+        verifyNoInteractions(bookingDao, userDao, emailService);
+        verify(dispatchCheckpointDao, never()).saveProgress(any());
+    }
+
+    @Test
+    void shouldStopDispatchingBookingReminders_whenLeaseIsLost() {
+        // Arrange
+        when(envConfiguration.getBookingReminderLeadDays()).thenReturn(1);
+        when(envConfiguration.getNotificationBatchSize()).thenReturn(1);
+        when(uuidProvider.generateUuid()).thenReturn("owner");
+        when(dispatchCheckpointDao.claim(eq("booking-reminders:2026-05-01"), eq("owner"), any(Date.class), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(buildCheckpoint("booking-reminders:2026-05-01", null)));
+        when(dispatchCheckpointDao.saveProgress(any(DispatchCheckpoint.class))).thenReturn(false);
+        when(bookingDao.streamActiveBookingsCheckingInBetween(any(Date.class), any(Date.class), isNull(), eq(1)))
+                .thenReturn(Stream.of(buildBooking("bookingId1", "aliceId", 2), buildBooking("bookingId2", "aliceId", 1)));
+        when(userDao.findContactsByIds(anyCollection())).thenReturn(List.of(buildUser("aliceId", "alice", "alice@example.com")));
+
+        // Act
+        bookingNotificationService.dispatchBookingReminders(DISPATCH_DATE);
+
+        // Assert
+        verify(emailService, times(1)).sendEmails(anyList());
+        verify(dispatchCheckpointDao, times(1)).saveProgress(any(DispatchCheckpoint.class));
+    }
+
+    @Test
+    void shouldSendAdminDigest_withArrivalsPerHotel() {
+        // Arrange
+        when(envConfiguration.getNotificationBatchSize()).thenReturn(500);
+        when(uuidProvider.generateUuid()).thenReturn("owner");
+        when(dispatchCheckpointDao.claim(eq("admin-digest:2026-05-01"), eq("owner"), any(Date.class), any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(buildCheckpoint("admin-digest:2026-05-01", null)));
+        when(dispatchCheckpointDao.saveProgress(any(DispatchCheckpoint.class))).thenReturn(true);
+        when(bookingDao.streamActiveBookingsCheckingInBetween(any(Date.class), any(Date.class), isNull(), eq(500)))
+                .thenReturn(Stream.of(
+                        buildBooking("bookingId1", "aliceId", 2),
+                        buildBooking("bookingId2", "bobId", 3)));
+        when(userDao.findContactsByRole(UserRole.ADMIN)).thenReturn(List.of(buildUser("adminId", "admin", "admin@example.com")));
+
+        // Act
+        bookingNotificationService.dispatchAdminDigests(DISPATCH_DATE);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboundEmail>> emailsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(emailService, times(1)).sendEmails(emailsCaptor.capture());
+
+        OutboundEmail digest = emailsCaptor.getValue().getFirst();
+        assertThat(digest.getId()).isEqualTo("admin-digest:2026-05-01:adminId");
+        assertThat(digest.getTo()).isEqualTo("admin@example.com");
+        assertThat(digest.getSubject()).isEqualTo("Récapitulatif des arrivées du 02/05/2026");
+        assertThat(digest.getBody())
+                .contains("<strong>2</strong> réservation(s)")
+                .contains("<strong>5</strong> voyageur(s)")
+                .contains("<tr><td>Hôtel &amp; Spa</td><td>2</td><td>5</td></tr>");
+
+        ArgumentCaptor<DispatchCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(dispatchCheckpointDao).saveProgress(checkpointCaptor.capture());
+        assertThat(checkpointCaptor.getValue().isCompleted()).isTrue();
+    }
+
+    private DispatchCheckpoint buildCheckpoint(String checkpointId, String lastBookingId) {
+        return DispatchCheckpoint.builder()
+                .id(checkpointId)
+                .owner("owner")
+                .lastBookingId(lastBookingId)
+                .build();
+    }
+
+    private Booking buildBooking(String bookingId, String userId, int guests) {
+        ZoneId zone = ZoneId.systemDefault();
+
+        return Booking.builder()
+                .id(bookingId)
+                .userId(userId)
+                .hotel(Hotel.builder()
+                        .id("hotelId")
+                        .name("Hôtel & Spa")
+                        .location(HotelLocation.builder().address("1 rue de la Paix").city("Paris").build())
+                        .build())
+                .hotelRoom(HotelRoom.builder().id("roomId").type(HotelRoomType.DOUBLE).build())
+                .checkInDate(Date.from(LocalDate.of(2026, 5, 2).atStartOfDay(zone).plusHours(14).toInstant()))
+                .checkOutDate(Date.from(LocalDate.of(2026, 5, 5).atStartOfDay(zone).plusHours(11).toInstant()))
+                .guests(guests)
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+
+    private User buildUser(String id, String username, String email) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .build();
+    }
+
+}
@@ -398,7 +398,7 @@ class BookingServiceTest {
         when(bookingDao.findById(anyString())).thenReturn(Optional.of(booking));
 
         // Act
-        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId);
+        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId, null);
 
         // Assert
         GetBookingResponse expectedResponse = GetBookingResponse.builder()
@@ -421,7 +421,7 @@ class BookingServiceTest {
         when(bookingDao.findById(anyString())).thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId);
+        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId, null);
 
         // Assert
         GetBookingResponse expectedResponse = GetBookingResponse.builder()
@@ -460,7 +460,7 @@ class BookingServiceTest {
         when(bookingDao.findById(anyString())).thenReturn(Optional.of(booking));
 
         // Act
-        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId);
+        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId, null);
 
         // Assert
         GetBookingResponse expectedResponse = GetBookingResponse.builder()
@@ -474,6 +474,59 @@ class BookingServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("error", expectedResponse));
     }
 
+    @Test
+    void shouldReturnNotModified_whenEntityTagMatches() {
+        // Arrange
+        String authenticatedUserId = "userId";
+        String bookingId = "bookingId";
+
+        Booking booking = Booking.builder()
+                .id(bookingId)
+                .userId("userId")
+                .version(2)
+                .lastModified(new Date(1677628800000L))
+                .build();
+
+        when(bookingDao.findById(anyString())).thenReturn(Optional.of(booking));
+
+        // Act
+        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId, "\"2-1869a77fc00\"");
+
+        // Assert
+        verify(bookingDao).findById(bookingId);
+        verifyNoMoreInteractions(bookingDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"2-1869a77fc00\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnForbidden_whenEntityTagMatchesBookingOfAnotherUser() {
+        // Arrange
+        String authenticatedUserId = "userId";
+        String bookingId = "bookingId";
+
+        Booking booking = Booking.builder()
+                .id(bookingId)
+                .userId("otherUserId")
+                .version(2)
+                .lastModified(new Date(1677628800000L))
+                .build();
+
+        when(bookingDao.findById(anyString())).thenReturn(Optional.of(booking));
+
+        // Act
+        ResponseEntity<Map<String, GetBookingResponse>> response = bookingService.getBooking(authenticatedUserId, bookingId, "\"2-1869a77fc00\"");
+
+        // Assert
+        verify(bookingDao).findById(bookingId);
+        verifyNoMoreInteractions(bookingDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
     @Test
     void shouldUpdateBooking() {
         // Arrange
@@ -0,0 +1,200 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.OutboundEmailDao;
+import com.akkorhotel.hotel.model.OutboundEmail;
+import com.akkorhotel.hotel.model.OutboundEmailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    private EmailOutboxService emailOutboxService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @Mock
+    private OutboundEmailDao outboundEmailDao;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setAppEmail("app@akkorhotel.com");
+        envConfiguration.setMailModifiedUsername("Akkor Hotel");
+        envConfiguration.setEmailOutboxWorkers(1);
+        envConfiguration.setEmailOutboxBatchSize(20);
+        envConfiguration.setEmailOutboxMaxAttempts(3);
+        envConfiguration.setEmailOutboxRetryBackoff(1000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        emailOutboxService = new EmailOutboxService(javaMailSender, outboundEmailDao, envConfiguration, meterRegistry);
+
+        lenient().when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxService.shutdown();
+    }
+
+    @Test
+    void shouldSendClaimedEmailsOverSingleConnection() throws Exception {
+        // Arrange
+        OutboundEmail aliceEmail = buildOutboundEmail("aliceEmailId", "alice@example.com", 1);
+        OutboundEmail bobEmail = buildOutboundEmail("bobEmailId", "bob@example.com", 1);
+
+        when(outboundEmailDao.claimNext(any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(aliceEmail), Optional.of(bobEmail), Optional.empty());
+        when(outboundEmailDao.countPending()).thenReturn(0L);
+
+        // Act
+        emailOutboxService.drain().join();
+
+        // Assert
+        ArgumentCaptor<MimeMessage[]> messagesCaptor = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(javaMailSender, times(1)).send(messagesCaptor.capture());
+
+        assertThat(messagesCaptor.getValue()).hasSize(2);
+        assertThat(messagesCaptor.getValue())
+                .extracting(message -> message.getAllRecipients()[0].toString())
+                .containsExactlyInAnyOrder("alice@example.com", "bob@example.com");
+
+        ArgumentCaptor<Date> sentAtCaptor = ArgumentCaptor.forClass(Date.class);
+        ArgumentCaptor<Date> expiresAtCaptor = ArgumentCaptor.forClass(Date.class);
+        verify(outboundEmailDao, times(1)).markSent(eq("aliceEmailId"), sentAtCaptor.capture(), expiresAtCaptor.capture());
+        verify(outboundEmailDao, times(1)).markSent(eq("bobEmailId"), any(Date.class), any(Date.class));
+        verify(outboundEmailDao, never()).reschedule(anyString(), any(), anyString());
+        assertThat(expiresAtCaptor.getValue()).isAfter(sentAtCaptor.getValue());
+        assertThat(meterRegistry.get("akkorhotel.email.outbox.delivery").tag("outcome", "sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRescheduleOnlyRejectedEmailsWithBackoff() {
+        // Arrange
+        OutboundEmail aliceEmail = buildOutboundEmail("aliceEmailId", "alice@example.com", 2);
+        OutboundEmail bobEmail = buildOutboundEmail("bobEmailId", "bob@example.com", 1);
+
+        when(outboundEmailDao.claimNext(any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(aliceEmail), Optional.of(bobEmail), Optional.empty());
+        doAnswer(invocation -> {
+            for (Object argument : invocation.getArguments()) {
+                MimeMessage message = (MimeMessage) argument;
+                if ("alice@example.com".equals(message.getAllRecipients()[0].toString())) {
+                    throw new MailSendException(Map.of(message, new Exception("Mailbox unavailable")));
+                }
+            }
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage[].class));
+
+        long before = System.currentTimeMillis();
+
+        // Act
+        emailOutboxService.drain().join();
+
+        // Assert
+        ArgumentCaptor<Date> nextAttemptCaptor = ArgumentCaptor.forClass(Date.class);
+        verify(outboundEmailDao, times(1)).reschedule(eq("aliceEmailId"), nextAttemptCaptor.capture(), eq("Mailbox unavailable"));
+        verify(outboundEmailDao, times(1)).markSent(eq("bobEmailId"), any(Date.class), any(Date.class));
+        verify(outboundEmailDao, never()).markSent(eq("aliceEmailId"), any(), any());
+
+        assertThat(nextAttemptCaptor.getValue().getTime()).isGreaterThanOrEqualTo(before + 2000);
+    }
+
+    @Test
+    void shouldMarkEmailAsFailed_whenMaxAttemptsReached() {
+        // Arrange
+        OutboundEmail aliceEmail = buildOutboundEmail("aliceEmailId", "alice@example.com", 3);
+
+        when(outboundEmailDao.claimNext(any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(aliceEmail), Optional.empty());
+        doThrow(new MailAuthenticationException("Authentication failed")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        // Act
+        emailOutboxService.drain().join();
+
+        // Assert
+        verify(outboundEmailDao, times(1)).markFailed("aliceEmailId", "Authentication failed");
+        verify(outboundEmailDao, never()).reschedule(anyString(), any(), anyString());
+        verify(outboundEmailDao, never()).markSent(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldExposeQueueDepth() {
+        // Arrange
+        when(outboundEmailDao.claimNext(any(Date.class), any(Date.class))).thenReturn(Optional.empty());
+        when(outboundEmailDao.countPending()).thenReturn(42L);
+
+        // Act
+        emailOutboxService.drain().join();
+
+        // Assert
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+        assertThat(meterRegistry.get("akkorhotel.email.outbox.queue").gauge().value()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldHandOffDrainWithoutWaiting_whenDispatchIsScheduled() throws Exception {
+        // Arrange
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        when(outboundEmailDao.claimNext(any(Date.class), any(Date.class)))
+                .thenReturn(Optional.of(buildOutboundEmail("aliceEmailId", "alice@example.com", 1)))
+                .thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await();
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage[].class));
+
+        // Act
+        emailOutboxService.dispatchPendingEmails();
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        emailOutboxService.dispatchPendingEmails();
+        releaseSend.countDown();
+
+        // Assert
+        verify(outboundEmailDao, timeout(5000)).markSent(eq("aliceEmailId"), any(Date.class), any(Date.class));
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+    }
+
+    private OutboundEmail buildOutboundEmail(String id, String to, int attempts) {
+        return OutboundEmail.builder()
+                .id(id)
+                .to(to)
+                .subject("Subject")
+                .body("<p>Body</p>")
+                .status(OutboundEmailStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(new Date())
+                .createdAt(new Date())
+                .build();
+    }
+
+}
@@ -1,15 +1,20 @@
 package com.akkorhotel.hotel.service;
 
-import com.akkorhotel.hotel.configuration.EnvConfiguration;
-import jakarta.mail.internet.MimeMessage;
+import com.akkorhotel.hotel.dao.OutboundEmailDao;
+import com.akkorhotel.hotel.model.OutboundEmail;
+import com.akkorhotel.hotel.model.OutboundEmailStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.mail.MailSendException;
-import org.springframework.mail.javamail.JavaMailSender;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -20,50 +25,88 @@ class EmailServiceTest {
     private EmailService emailService;
 
     @Mock
-    private JavaMailSender javaMailSender;
-
-    @Mock
-    private MimeMessage mimeMessage;
+    private OutboundEmailDao outboundEmailDao;
 
     @Mock
-    private EnvConfiguration envConfiguration;
+    private UuidProvider uuidProvider;
 
     @Test
-    void shouldSendEmail() {
+    void shouldQueueEmail() {
         // Arrange
         String to = "test@example.com";
         String subject = "Test Subject";
         String body = "Test Body";
 
-        when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
-        when(envConfiguration.getAppEmail()).thenReturn("appEmail");
-        when(envConfiguration.getMailModifiedUsername()).thenReturn("mailModifiedUsername");
+        when(uuidProvider.generateUuid()).thenReturn("emailId");
 
         // Act
         emailService.sendEmail(to, subject, body);
 
         // Assert
-        verify(javaMailSender, times(1)).send(mimeMessage);
+        ArgumentCaptor<OutboundEmail> outboundEmailCaptor = ArgumentCaptor.forClass(OutboundEmail.class);
+        verify(outboundEmailDao, times(1)).insert(outboundEmailCaptor.capture());
+
+        OutboundEmail outboundEmail = outboundEmailCaptor.getValue();
+        assertThat(outboundEmail.getId()).isEqualTo("emailId");
+        assertThat(outboundEmail.getTo()).isEqualTo(to);
+        assertThat(outboundEmail.getSubject()).isEqualTo(subject);
+        assertThat(outboundEmail.getBody()).startsWith(body).contains("L'équipe Akkor Hotel.");
+        assertThat(outboundEmail.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+        assertThat(outboundEmail.getAttempts()).isZero();
+        assertThat(outboundEmail.getNextAttemptAt()).isEqualTo(outboundEmail.getCreatedAt());
     }
 
     @Test
-    void shouldThrowExceptionWhenEmailSendingFails() {
+    void shouldThrowExceptionWhenEmailQueueingFails() {
         // Arrange
         String to = "test@example.com";
         String subject = "Test Subject";
         String body = "Test Body";
 
-        when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
-        when(envConfiguration.getAppEmail()).thenReturn("appEmail");
-        when(envConfiguration.getMailModifiedUsername()).thenReturn("mailModifiedUsername");
-        doThrow(new MailSendException("SMTP error")).when(javaMailSender).send(any(MimeMessage.class));
+        when(uuidProvider.generateUuid()).thenReturn("emailId");
+        doThrow(new DataAccessResourceFailureException("Mongo error")).when(outboundEmailDao).insert(any(OutboundEmail.class));
 
         // Act & Assert
         assertThatThrownBy(() -> emailService.sendEmail(to, subject, body))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Error sending email: SMTP error");
+                .isInstanceOf(MailSendException.class)
+                .hasMessageContaining("Error queuing email: Mongo error");
+
+        verify(outboundEmailDao, times(1)).insert(any(OutboundEmail.class));
+    }
 
-        verify(javaMailSender, times(1)).send(mimeMessage);
+    @Test
+    void shouldQueueEmailsInBulk_withDeterministicIds() {
+        // Arrange
+        List<OutboundEmail> emails = List.of(
+                OutboundEmail.builder().id("booking-reminder:bookingId1").to("alice@example.com").subject("Subject").body("Body").build(),
+                OutboundEmail.builder().id("booking-reminder:bookingId2").to("bob@example.com").subject("Subject").body("Body").build());
+
+        // Act
+        emailService.sendEmails(emails);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboundEmail>> outboundEmailsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboundEmailDao, times(1)).insertAllIgnoringDuplicates(outboundEmailsCaptor.capture());
+        verifyNoInteractions(uuidProvider);
+
+        assertThat(outboundEmailsCaptor.getValue())
+                .extracting(OutboundEmail::getId)
+                .containsExactly("booking-reminder:bookingId1", "booking-reminder:bookingId2");
+        assertThat(outboundEmailsCaptor.getValue())
+                .allSatisfy(outboundEmail -> {
+                    assertThat(outboundEmail.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+                    assertThat(outboundEmail.getBody()).startsWith("Body").contains("L'équipe Akkor Hotel.");
+                });
+    }
+
+    @Test
+    void shouldNotQueueEmails_whenBatchIsEmpty() {
+        // Act
+        emailService.sendEmails(List.of());
+
+        // Assert
+        verifyNoInteractions(outboundEmailDao);
     }
 
 }
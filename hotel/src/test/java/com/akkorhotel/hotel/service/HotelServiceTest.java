@@ -1,5 +1,6 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
 import com.akkorhotel.hotel.dao.HotelDao;
 import com.akkorhotel.hotel.model.*;
 import com.akkorhotel.hotel.model.request.GetHotelsFilters;
@@ -7,18 +8,26 @@ import com.akkorhotel.hotel.model.request.GetHotelsRequest;
 import com.akkorhotel.hotel.model.response.GetAllHotelsHotelResponse;
 import com.akkorhotel.hotel.model.response.GetAllHotelsResponse;
 import com.akkorhotel.hotel.model.response.GetHotelResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
@@ -34,8 +43,17 @@ class HotelServiceTest {
     @Mock
     private HotelDao hotelDao;
 
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private EnvConfiguration envConfiguration;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
-    void shouldReturnHotelInformations() {
+    void shouldReturnHotelInformations() throws JsonProcessingException {
         // Arrange
         String hotelId = "hotelId";
 
@@ -67,44 +85,171 @@ class HotelServiceTest {
                 .rooms(List.of(hotelRoom))
                 .build();
 
-        when(hotelDao.findById(hotelId)).thenReturn(Optional.of(hotel));
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
+        when(hotelDao.findByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
 
         // Act
-        ResponseEntity<Map<String, GetHotelResponse>> response = hotelService.getHotel(hotelId);
+        ResponseEntity<byte[]> response = hotelService.getHotel(hotelId, null).block();
 
         // Assert
         GetHotelResponse expectedResponse = GetHotelResponse.builder()
                 .hotel(hotel)
                 .build();
 
-
-        verify(hotelDao).findById(hotelId);
-        verifyNoMoreInteractions(hotelDao);
+        InOrder inOrder = inOrder(hotelDao);
+        inOrder.verify(hotelDao).findVersionByIdReactive(hotelId);
+        inOrder.verify(hotelDao).findByIdReactive(hotelId);
+        inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(singletonMap("informations", expectedResponse));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"0-0\"");
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(singletonMap("informations", expectedResponse)));
     }
 
     @Test
-    void shouldReturnNotFoundError_whenHotelDoesNotExist() {
+    void shouldReturnNotFoundError_whenHotelDoesNotExist() throws JsonProcessingException {
         // Arrange
         String hotelId = "hotelId";
 
-        when(hotelDao.findById(hotelId)).thenReturn(Optional.empty());
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.empty());
 
         // Act
-        ResponseEntity<Map<String, GetHotelResponse>> response = hotelService.getHotel(hotelId);
+        ResponseEntity<byte[]> response = hotelService.getHotel(hotelId, null).block();
 
         // Assert
         GetHotelResponse expectedResponse = GetHotelResponse.builder()
                 .error("Hotel not found")
                 .build();
 
-        verify(hotelDao).findById(hotelId);
+        verify(hotelDao).findVersionByIdReactive(hotelId);
         verifyNoMoreInteractions(hotelDao);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
-        assertThat(response.getBody()).isEqualTo(singletonMap("error", expectedResponse));
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(singletonMap("error", expectedResponse)));
+    }
+
+    @Test
+    void shouldReturnNotModified_whenEntityTagMatches_withoutLoadingHotel() {
+        // Arrange
+        String hotelId = "hotelId";
+        Date lastModified = new Date(1_700_000_000_000L);
+
+        Hotel version = Hotel.builder()
+                .id(hotelId)
+                .version(3)
+                .lastModified(lastModified)
+                .build();
+
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.just(version));
+
+        // Act
+        ResponseEntity<byte[]> response = hotelService.getHotel(hotelId, "\"other\", W/\"3-18bcfe56800\"").block();
+
+        // Assert
+        verify(hotelDao).findVersionByIdReactive(hotelId);
+        verifyNoMoreInteractions(hotelDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3-18bcfe56800\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(lastModified.getTime());
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnHotel_whenEntityTagIsStale() throws JsonProcessingException {
+        // Arrange
+        String hotelId = "hotelId";
+
+        Hotel hotel = Hotel.builder()
+                .id(hotelId)
+                .name("name")
+                .version(4)
+                .lastModified(new Date(1_700_000_000_000L))
+                .build();
+
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
+        when(hotelDao.findByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
+
+        // Act
+        ResponseEntity<byte[]> response = hotelService.getHotel(hotelId, "\"3-18bcfe56800\"").block();
+
+        // Assert
+        InOrder inOrder = inOrder(hotelDao);
+        inOrder.verify(hotelDao).findVersionByIdReactive(hotelId);
+        inOrder.verify(hotelDao).findByIdReactive(hotelId);
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4-18bcfe56800\"");
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(singletonMap("informations", GetHotelResponse.builder().hotel(hotel).build())));
+    }
+
+    @Test
+    void shouldServeSerializedHotel_whenHotelIsUnchanged() {
+        // Arrange
+        String hotelId = "hotelId";
+
+        Hotel hotel = Hotel.builder()
+                .id(hotelId)
+                .name("name")
+                .version(2)
+                .lastModified(new Date(1_700_000_000_000L))
+                .build();
+
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
+        when(hotelDao.findByIdReactive(hotelId)).thenReturn(Mono.just(hotel));
+
+        // Act
+        ResponseEntity<byte[]> firstResponse = hotelService.getHotel(hotelId, null).block();
+        ResponseEntity<byte[]> secondResponse = hotelService.getHotel(hotelId, null).block();
+
+        // Assert
+        InOrder inOrder = inOrder(hotelDao);
+        inOrder.verify(hotelDao).findVersionByIdReactive(hotelId);
+        inOrder.verify(hotelDao).findByIdReactive(hotelId);
+        inOrder.verify(hotelDao).findVersionByIdReactive(hotelId);
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondResponse.getHeaders().getETag()).isEqualTo("\"2-18bcfe56800\"");
+        assertThat(secondResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(secondResponse.getBody()).isSameAs(firstResponse.getBody());
+    }
+
+    @Test
+    void shouldSerializeHotelAgain_whenHotelVersionChanges() throws JsonProcessingException {
+        // Arrange
+        String hotelId = "hotelId";
+
+        Hotel hotel = Hotel.builder()
+                .id(hotelId)
+                .name("name")
+                .version(2)
+                .lastModified(new Date(1_700_000_000_000L))
+                .build();
+
+        Hotel updatedHotel = Hotel.builder()
+                .id(hotelId)
+                .name("updated name")
+                .version(3)
+                .lastModified(new Date(1_700_000_060_000L))
+                .build();
+
+        when(hotelDao.findVersionByIdReactive(hotelId)).thenReturn(Mono.just(hotel), Mono.just(updatedHotel));
+        when(hotelDao.findByIdReactive(hotelId)).thenReturn(Mono.just(hotel), Mono.just(updatedHotel));
+
+        // Act
+        hotelService.getHotel(hotelId, null).block();
+        ResponseEntity<byte[]> response = hotelService.getHotel(hotelId, null).block();
+
+        // Assert
+        verify(hotelDao, times(2)).findVersionByIdReactive(hotelId);
+        verify(hotelDao, times(2)).findByIdReactive(hotelId);
+        verifyNoMoreInteractions(hotelDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(singletonMap("informations", GetHotelResponse.builder().hotel(updatedHotel).build())));
     }
 
     @Test
@@ -155,11 +300,12 @@ class HotelServiceTest {
                 .stars(4)
                 .build();
 
-        when(hotelDao.countHotelsWithRequest(any())).thenReturn(2L);
-        when(hotelDao.searchHotelsByRequest(any())).thenReturn(List.of(hotel1));
+        when(hotelDao.countHotelsWithRequest(any())).thenReturn(Mono.just(2L));
+        when(hotelDao.searchHotelsByRequest(any())).thenReturn(Flux.just(hotel1));
+        when(imageService.getListPictureUrls(Set.of("https://picture1.jpg"))).thenReturn(Mono.just(Map.of("https://picture1.jpg", "https://picture1-medium.jpg")));
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -170,7 +316,7 @@ class HotelServiceTest {
                         .hotelId("hotelId1")
                         .stars(4)
                         .name("name1")
-                        .firstPicture("https://picture1.jpg")
+                        .firstPicture("https://picture1-medium.jpg")
                         .googleMapUrl(null)
                         .price(210.00)
                         .address(null)
@@ -178,9 +324,10 @@ class HotelServiceTest {
                         .build()))
                 .build();
 
-        InOrder inOrder = inOrder(hotelDao);
+        InOrder inOrder = inOrder(hotelDao, imageService);
         inOrder.verify(hotelDao).countHotelsWithRequest(request.getFilters());
         inOrder.verify(hotelDao).searchHotelsByRequest(request);
+        inOrder.verify(imageService).getListPictureUrls(Set.of("https://picture1.jpg"));
         inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -209,7 +356,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -247,7 +394,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -285,7 +432,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -323,7 +470,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -361,7 +508,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -399,7 +546,7 @@ class HotelServiceTest {
                 .build());
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -436,10 +583,10 @@ class HotelServiceTest {
                 .minPrice(150)
                 .build());
 
-        when(hotelDao.countHotelsWithRequest(any())).thenReturn(3L);
+        when(hotelDao.countHotelsWithRequest(any())).thenReturn(Mono.just(3L));
 
         // Act
-        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request);
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.getHotels(request).block();
 
         // Assert
         GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
@@ -456,4 +603,89 @@ class HotelServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("warning", expectedResponse));
     }
 
+    @Test
+    void shouldRedirectToCanonicalSearchQuery() {
+        // Arrange
+        GetHotelsRequest request = new GetHotelsRequest();
+        request.setPageSize(1);
+        request.setFilter("PRICE_LOW_TO_HIGH");
+        request.setFilters(GetHotelsFilters.builder()
+                .guests(2)
+                .city("New York")
+                .hotelAmenities(List.of("WIFI", "BAR", "WIFI"))
+                .fourStars(true)
+                .twoStars(true)
+                .minPrice(150)
+                .build());
+
+        when(envConfiguration.getHotelSearchCacheMaxAge()).thenReturn(60L);
+
+        // Act
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.searchHotels(request,
+                "twoStars=true&fourStars=true&city=New%20York&hotelAmenities=WIFI,BAR&minPrice=150&guests=2&page=0&pageSize=1&filter=PRICE_LOW_TO_HIGH").block();
+
+        // Assert
+        verifyNoInteractions(hotelDao, imageService);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MOVED_PERMANENTLY);
+        assertThat(response.getHeaders().getLocation()).hasToString(
+                "search?city=New+York&filter=PRICE_LOW_TO_HIGH&fourStars=true&guests=2&hotelAmenities=BAR&hotelAmenities=WIFI&minPrice=150&pageSize=1&twoStars=true");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnCacheableResponse_whenSearchQueryIsCanonical() {
+        // Arrange
+        GetHotelsRequest request = new GetHotelsRequest();
+        request.setPageSize(1);
+        request.setPage(5);
+        request.setFilter("PRICE_LOW_TO_HIGH");
+        request.setFilters(GetHotelsFilters.builder()
+                .guests(2)
+                .city("city")
+                .build());
+
+        when(envConfiguration.getHotelSearchCacheMaxAge()).thenReturn(60L);
+        when(hotelDao.countHotelsWithRequest(any())).thenReturn(Mono.just(3L));
+
+        // Act
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.searchHotels(request,
+                "city=city&filter=PRICE_LOW_TO_HIGH&guests=2&page=5&pageSize=1").block();
+
+        // Assert
+        GetAllHotelsResponse expectedResponse = GetAllHotelsResponse.builder()
+                .totalPages(3)
+                .hotelsFound(3)
+                .error("Requested page exceeds the total number of available pages")
+                .hotels(emptyList())
+                .build();
+
+        verify(hotelDao).countHotelsWithRequest(request.getFilters());
+        verifyNoMoreInteractions(hotelDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getBody()).isEqualTo(singletonMap("warning", expectedResponse));
+    }
+
+    @Test
+    void shouldNotCacheSearchErrors() {
+        // Arrange
+        GetHotelsRequest request = new GetHotelsRequest();
+        request.setPage(-5);
+
+        when(envConfiguration.getHotelSearchCacheMaxAge()).thenReturn(60L);
+
+        // Act
+        ResponseEntity<Map<String, GetAllHotelsResponse>> response = hotelService.searchHotels(request, "page=-5").block();
+
+        // Assert
+        verifyNoInteractions(hotelDao);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getHeaders().getCacheControl()).isNull();
+    }
+
 }
\ No newline at end of file
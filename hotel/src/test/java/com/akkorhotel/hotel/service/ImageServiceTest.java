@@ -1,19 +1,39 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
 import com.akkorhotel.hotel.dao.ImageDao;
+import com.akkorhotel.hotel.dao.ImageStorage;
 import com.akkorhotel.hotel.model.Image;
 import com.akkorhotel.hotel.model.ImageCategory;
 import com.akkorhotel.hotel.model.ImageExtension;
+import com.akkorhotel.hotel.model.ImageVariant;
+import com.akkorhotel.hotel.model.StoredImage;
+import com.akkorhotel.hotel.utils.ImageInspector;
+import com.akkorhotel.hotel.utils.ImageVariantGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,9 +45,24 @@ class ImageServiceTest {
     @Mock
     private ImageDao imageDao;
 
+    @Mock
+    private ImageStorage imageStorage;
+
     @Mock
     private UuidProvider uuidProvider;
 
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    private ImageInspector imageInspector;
+
+    @Mock
+    private EnvConfiguration envConfiguration;
+
+    @TempDir
+    private Path storageDirectory;
+
     @Test
     void shouldReturnUrl_whenImageExists() {
         // Arrange
@@ -74,6 +109,42 @@ class ImageServiceTest {
         verifyNoMoreInteractions(imageDao);
     }
 
+    @Test
+    void shouldReturnUrlsByIds_inSingleLookup() {
+        // Arrange
+        Image firstImage = Image.builder().id("imageId1").url("https://picture1.jpg").build();
+        Image secondImage = Image.builder().id("imageId2").url("https://picture2.png").build();
+
+        when(imageDao.findAllByIds(anyCollection())).thenReturn(List.of(firstImage, secondImage));
+
+        // Act
+        Map<String, String> urls = imageService.getImageUrlsByIds(List.of("imageId1", "imageId2", "unknownImageId"));
+
+        // Assert
+        verify(imageDao).findAllByIds(List.of("imageId1", "imageId2", "unknownImageId"));
+        verifyNoMoreInteractions(imageDao);
+
+        assertThat(urls).isEqualTo(Map.of("imageId1", "https://picture1.jpg", "imageId2", "https://picture2.png"));
+    }
+
+    @Test
+    void shouldReturnUrlsByIds_whenIdsAreRepeatedOrUrlIsMissing() {
+        // Arrange
+        Image image = Image.builder().id("imageId1").url("https://picture1.jpg").build();
+        Image imageWithoutUrl = Image.builder().id("imageId2").build();
+
+        when(imageDao.findAllByIds(anyCollection())).thenReturn(List.of(image, imageWithoutUrl, image));
+
+        // Act
+        Map<String, String> urls = imageService.getImageUrlsByIds(List.of("imageId1", "imageId2", "imageId1"));
+
+        // Assert
+        verify(imageDao).findAllByIds(List.of("imageId1", "imageId2", "imageId1"));
+        verifyNoMoreInteractions(imageDao);
+
+        assertThat(urls).isEqualTo(Map.of("imageId1", "https://picture1.jpg"));
+    }
+
     @Test
     void shouldReturnExtension_whenFilenameHasValidExtension() {
         // Arrange
@@ -153,4 +224,289 @@ class ImageServiceTest {
         inOrder.verifyNoMoreInteractions();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldSaveNewImages_inSingleInsert() {
+        // Arrange
+        Image firstImage = Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.jpg").url("https://picture1.jpg").extension(ImageExtension.jpg).uploaderId("user123").build();
+        Image secondImage = Image.builder().category(ImageCategory.HOTEL).name("hotel-image-name.png").url("https://picture2.png").extension(ImageExtension.png).uploaderId("user123").build();
+
+        when(uuidProvider.generateUuid()).thenReturn("imageId1", "imageId2");
+
+        // Act
+        imageService.saveNewImages(List.of(firstImage, secondImage));
+
+        // Assert
+        InOrder inOrder = inOrder(uuidProvider, imageDao);
+        inOrder.verify(uuidProvider, times(2)).generateUuid();
+        inOrder.verify(imageDao).insertAll(List.of(firstImage, secondImage));
+        inOrder.verifyNoMoreInteractions();
+
+        assertThat(firstImage.getId()).isEqualTo("imageId1");
+        assertThat(secondImage.getId()).isEqualTo("imageId2");
+    }
+
+    @Test
+    void shouldReturnUrlsByContentHash() {
+        // Arrange
+        Image image = Image.builder().id("imageId").url("https://picture1.jpg").contentHash("hash1").build();
+
+        when(imageDao.findByContentHashes(anyCollection())).thenReturn(List.of(image));
+
+        // Act
+        Map<String, String> urls = imageService.getUrlsByContentHashes(List.of("hash1", "hash2"));
+
+        // Assert
+        verify(imageDao).findByContentHashes(List.of("hash1", "hash2"));
+        assertThat(urls).isEqualTo(Map.of("hash1", "https://picture1.jpg"));
+    }
+
+    @Test
+    void shouldNotQueryImages_whenNoContentHashIsGiven() {
+        // Act
+        Map<String, String> urls = imageService.getUrlsByContentHashes(List.of());
+
+        // Assert
+        verifyNoInteractions(imageDao);
+        assertThat(urls).isEmpty();
+    }
+
+    @Test
+    void shouldDelegateUploadedImageValidationToInspector() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "picture.png", "image/png", new byte[]{1});
+
+        when(imageInspector.inspect(file, ImageExtension.png)).thenReturn("Unrecognized picture content");
+
+        // Act
+        String error = imageService.validateUploadedImage(file, ImageExtension.png);
+
+        // Assert
+        verify(imageInspector).inspect(file, ImageExtension.png);
+        assertThat(error).isEqualTo("Unrecognized picture content");
+    }
+
+    @Test
+    void shouldAttachGeneratedVariants_onceGenerated() {
+        // Arrange
+        Image firstImage = Image.builder().id("imageId1").url("https://picture1.jpg").build();
+        Image secondImage = Image.builder().id("imageId2").url("https://picture2.svg").build();
+        MockMultipartFile firstSource = new MockMultipartFile("file1", "picture1.jpg", "image/jpeg", new byte[]{1});
+        MockMultipartFile secondSource = new MockMultipartFile("file2", "picture2.svg", "image/svg+xml", new byte[]{2});
+
+        CompletableFuture<List<Map<ImageVariant, String>>> variants = new CompletableFuture<>();
+        when(imageVariantGenerator.generateVariants(anyList())).thenReturn(variants);
+
+        // Act
+        imageService.generateVariants(List.of(firstImage, secondImage), List.of(firstSource, secondSource));
+
+        // Assert
+        verify(imageVariantGenerator).generateVariants(List.of(firstSource, secondSource));
+        verifyNoInteractions(imageDao);
+
+        variants.complete(List.of(Map.of(ImageVariant.THUMBNAIL, "https://picture1-thumbnail.jpg"), Map.of()));
+
+        verify(imageDao).saveVariants(firstImage);
+        verifyNoMoreInteractions(imageDao);
+        assertThat(firstImage.getVariants()).isEqualTo(Map.of(ImageVariant.THUMBNAIL, "https://picture1-thumbnail.jpg"));
+        assertThat(secondImage.getVariants()).isNull();
+    }
+
+    @Test
+    void shouldReturnSmallestAdequateVariantUrls() {
+        // Arrange
+        Image withVariants = Image.builder()
+                .url("https://picture1.jpg")
+                .variants(Map.of(
+                        ImageVariant.THUMBNAIL, "https://picture1-thumbnail.jpg",
+                        ImageVariant.MEDIUM, "https://picture1-medium.jpg",
+                        ImageVariant.LARGE, "https://picture1-large.jpg"))
+                .build();
+        Image withoutVariants = Image.builder().url("https://picture2.jpg").build();
+
+        when(envConfiguration.getHotelListPictureWidth()).thenReturn(480);
+        when(imageDao.findVariantsByUrls(anyCollection())).thenReturn(Flux.just(withVariants, withoutVariants));
+
+        // Act
+        Map<String, String> urls = imageService.getListPictureUrls(List.of("https://picture1.jpg", "https://picture2.jpg")).block();
+
+        // Assert
+        verify(imageDao).findVariantsByUrls(List.of("https://picture1.jpg", "https://picture2.jpg"));
+        assertThat(urls).isEqualTo(Map.of("https://picture1.jpg", "https://picture1-medium.jpg"));
+    }
+
+    @Test
+    void shouldServeStoredImage_withValidators() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"a-1\"");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(response.getHeader("Content-Security-Policy")).startsWith("sandbox");
+        assertThat(response.getHeader("Content-Disposition")).isNull();
+        assertThat(response.getContentAsByteArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void shouldServeStoredSvgAsSandboxedAttachment() throws IOException {
+        // Arrange
+        StoredImage storedImage = StoredImage.builder()
+                .path(Files.write(storageDirectory.resolve("picture.svg"), "<svg/>".getBytes()))
+                .size(6)
+                .lastModified(1000)
+                .contentType("image/svg+xml")
+                .etag("\"6-1\"")
+                .build();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.svg");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.svg")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.svg", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"picture.svg\"");
+        assertThat(response.getHeader("Content-Security-Policy")).startsWith("sandbox");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void shouldServeRequestedRange() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).containsExactly(2, 3, 4, 5);
+    }
+
+    @Test
+    void shouldIgnoreRange_whenIfRangeDoesNotMatch() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"outdated\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).hasSize(10);
+    }
+
+    @Test
+    void shouldReturnRangeNotSatisfiable_whenRangeStartsAfterEnd() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        request.addHeader("Range", "bytes=20-30");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void shouldReturnNotModified_whenEtagMatches() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        request.addHeader("If-None-Match", "\"a-1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void shouldDelegateToSendfile_whenContainerSupportsIt() throws IOException {
+        // Arrange
+        StoredImage storedImage = buildStoredImage();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/picture.png");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("picture.png")).thenReturn(Optional.of(storedImage));
+
+        // Act
+        imageService.serveStoredImage("picture.png", request, response);
+
+        // Assert
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(storedImage.getPath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNotFound_whenStoredImageDoesNotExist() throws IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/image/unknown.png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(imageStorage.find("unknown.png")).thenReturn(Optional.empty());
+
+        // Act
+        imageService.serveStoredImage("unknown.png", request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getErrorMessage()).isEqualTo("Image not found");
+    }
+
+    private StoredImage buildStoredImage() throws IOException {
+        Path path = Files.write(storageDirectory.resolve("picture.png"), new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        return StoredImage.builder()
+                .path(path)
+                .size(10)
+                .lastModified(1000)
+                .contentType("image/png")
+                .etag("\"a-1\"")
+                .build();
+    }
+
+}
@@ -1,12 +1,18 @@
 package com.akkorhotel.hotel.service;
 
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.configuration.JwtKeyRing;
+import com.akkorhotel.hotel.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,8 +25,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class JwtTokenServiceTest {
 
-    @InjectMocks
-    private JwtTokenService jwtTokenService;
+    private final JwtKeyRing jwtKeyRing = new JwtKeyRing(new EnvConfiguration());
+
+    private final JwtTokenService jwtTokenService = new JwtTokenService(jwtKeyRing);
 
     @Mock
     private HttpServletRequest request;
@@ -31,24 +38,58 @@ class JwtTokenServiceTest {
         String userId = "userId";
 
         // Act
-        String token = jwtTokenService.generateToken(userId);
+        String token = jwtTokenService.generateToken(userId, UserRole.ADMIN, 3L);
 
         // Assert
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(JwtTokenService.SECRET_KEY)
+        Jws<Claims> jws = Jwts.parserBuilder()
+                .setSigningKeyResolver(jwtKeyRing)
                 .build()
-                .parseClaimsJws(token)
-                .getBody();
+                .parseClaimsJws(token);
+        Claims claims = jws.getBody();
 
         Date expirationDate = claims.getExpiration();
         String resolvedUserId = claims.getSubject();
         String tokenType = claims.get("type", String.class);
 
-        assertThat(token).startsWith("eyJhbGciOiJIUzUxMiJ9.");
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("HS512");
+        assertThat(jws.getHeader().getKeyId()).isEqualTo(jwtKeyRing.getActiveKeyId());
         assertThat(token.split("\\.").length == 3).isTrue();
         assertThat(expirationDate.after(new Date())).isTrue();
         assertThat(resolvedUserId).isEqualTo(userId);
         assertThat(tokenType).isEqualTo("access");
+        assertThat(claims.getId()).isNotNull();
+        assertThat(expirationDate.before(Date.from(Instant.now().plusSeconds(901)))).isTrue();
+        assertThat(jwtTokenService.isAccessToken(claims)).isTrue();
+        assertThat(jwtTokenService.resolveRole(claims)).isEqualTo(UserRole.ADMIN);
+        assertThat(jwtTokenService.resolveTokenVersion(claims)).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldGenerateRefreshTokenAndResolveItsClaims() {
+        // Act
+        String refreshToken = jwtTokenService.generateRefreshToken("userId", 3L);
+
+        // Assert
+        Claims claims = jwtTokenService.resolveRefreshTokenClaims(refreshToken);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("userId");
+        assertThat(claims.getId()).isNotNull();
+        assertThat(claims.get("type", String.class)).isEqualTo("refresh");
+        assertThat(jwtTokenService.isAccessToken(claims)).isFalse();
+        assertThat(jwtTokenService.resolveTokenVersion(claims)).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldNotResolveRefreshTokenClaims_whenTokenIsAnAccessToken() {
+        // Arrange
+        String accessToken = jwtTokenService.generateToken("userId", UserRole.USER, 0L);
+
+        // Act
+        Claims claims = jwtTokenService.resolveRefreshTokenClaims(accessToken);
+
+        // Assert
+        assertThat(claims).isNull();
     }
 
     @Test
@@ -61,7 +102,8 @@ class JwtTokenServiceTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
@@ -110,6 +152,54 @@ class JwtTokenServiceTest {
         assertThat(resolvedUserId).isNull();
     }
 
+    @Test
+    void shouldVerifyTokensSignedWithPreviousKey_whenActiveKeyIsRotated() {
+        // Arrange
+        String previousSecret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        String currentSecret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+
+        EnvConfiguration previousConfiguration = new EnvConfiguration();
+        previousConfiguration.setJwtSigningKeys("previous:" + previousSecret);
+
+        EnvConfiguration rotatedConfiguration = new EnvConfiguration();
+        rotatedConfiguration.setJwtSigningKeys("previous:" + previousSecret + ",current:" + currentSecret);
+        rotatedConfiguration.setJwtActiveSigningKeyId("current");
+
+        JwtTokenService previousNode = new JwtTokenService(new JwtKeyRing(previousConfiguration));
+        JwtTokenService rotatedNode = new JwtTokenService(new JwtKeyRing(rotatedConfiguration));
+
+        String previousToken = previousNode.generateToken("userId", UserRole.USER, 0L);
+        String currentToken = rotatedNode.generateToken("userId", UserRole.USER, 0L);
+
+        // Act & Assert
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + previousToken);
+        assertThat(rotatedNode.resolveUserIdFromRequest(request)).isEqualTo("userId");
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + currentToken);
+        assertThat(rotatedNode.resolveUserIdFromRequest(request)).isEqualTo("userId");
+        assertThat(previousNode.resolveUserIdFromRequest(request)).isNull();
+    }
+
+    @Test
+    void shouldReturnNull_whenTokenHasNoKeyId() {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("userId")
+                .claim("type", "access")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plusSeconds(900)))
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
+                .compact();
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+
+        // Act
+        String resolvedUserId = jwtTokenService.resolveUserIdFromRequest(request);
+
+        // Assert
+        assertThat(resolvedUserId).isNull();
+    }
+
     @Test
     void shouldReturnNull_whenTokenFromRequestIsExpired() {
         // Arrange
@@ -120,7 +210,8 @@ class JwtTokenServiceTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().minusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + expiredToken);
@@ -141,17 +232,18 @@ class JwtTokenServiceTest {
         String token = jwtTokenService.generateEmailConfirmationToken(userId);
 
         // Assert
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(JwtTokenService.SECRET_KEY)
+        Jws<Claims> jws = Jwts.parserBuilder()
+                .setSigningKeyResolver(jwtKeyRing)
                 .build()
-                .parseClaimsJws(token)
-                .getBody();
+                .parseClaimsJws(token);
+        Claims claims = jws.getBody();
 
         Date expirationDate = claims.getExpiration();
         String resolvedUserId = claims.getSubject();
         String tokenType = claims.get("type", String.class);
 
-        assertThat(token).startsWith("eyJhbGciOiJIUzUxMiJ9.");
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("HS512");
+        assertThat(jws.getHeader().getKeyId()).isEqualTo(jwtKeyRing.getActiveKeyId());
         assertThat(token.split("\\.").length == 3).isTrue();
         assertThat(expirationDate.after(new Date())).isTrue();
         assertThat(resolvedUserId).isEqualTo(userId);
@@ -167,7 +259,8 @@ class JwtTokenServiceTest {
                 .claim("type", "email_confirmation")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -186,7 +279,8 @@ class JwtTokenServiceTest {
                 .claim("type", "wrongType")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -205,7 +299,8 @@ class JwtTokenServiceTest {
                 .claim("type", "email_confirmation")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().minusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -225,7 +320,8 @@ class JwtTokenServiceTest {
                 .claim("type", "access")
                 .setIssuedAt(Date.from(Instant.now()))
                 .setExpiration(Date.from(Instant.now().plusSeconds(172_800_000)))
-                .signWith(JwtTokenService.SECRET_KEY, SignatureAlgorithm.HS512)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
 
         // Act
@@ -235,5 +331,54 @@ class JwtTokenServiceTest {
         assertThat(resolvedUserId).isEqualTo(userId);
     }
 
+    @Test
+    void shouldResolveUserIdFromRequest_whenSameTokenIsUsedSeveralTimes() {
+        // Arrange
+        String userId = "userId";
+
+        String token = Jwts.builder()
+                .setSubject(userId)
+                .claim("type", "access")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
+                .compact();
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+
+        // Act
+        String firstResolvedUserId = jwtTokenService.resolveUserIdFromRequest(request);
+        String secondResolvedUserId = jwtTokenService.resolveUserIdFromRequest(request);
+
+        // Assert
+        assertThat(firstResolvedUserId).isEqualTo(userId);
+        assertThat(secondResolvedUserId).isEqualTo(userId);
+    }
+
+    @Test
+    void shouldReturnNull_whenTokenSignatureIsTamperedAfterValidTokenWasResolved() {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("userId")
+                .claim("type", "access")
+                .setIssuedAt(Date.from(Instant.now()))
+                .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getActiveKeyId())
+                .signWith(jwtKeyRing.getActiveKey(), SignatureAlgorithm.HS512)
+                .compact();
+
+        String tamperedToken = token.substring(0, token.length() - 4) + "AAAA";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token, "Bearer " + tamperedToken);
+
+        // Act
+        String resolvedUserId = jwtTokenService.resolveUserIdFromRequest(request);
+        String tamperedResolvedUserId = jwtTokenService.resolveUserIdFromRequest(request);
+
+        // Assert
+        assertThat(resolvedUserId).isEqualTo("userId");
+        assertThat(tamperedResolvedUserId).isNull();
+    }
 
 }
@@ -0,0 +1,73 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setPasswordHashingQueueCapacity(4);
+        envConfiguration.setPasswordHashingTimeout(5000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(5), envConfiguration, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void shouldEncodeAndMatchPassword() {
+        // Act
+        String encodedPassword = passwordHashingService.encode("AliceStrongP@ss1!");
+
+        // Assert
+        assertThat(encodedPassword).startsWith("$2a$05$");
+        assertThat(passwordHashingService.matches("AliceStrongP@ss1!", encodedPassword)).isTrue();
+        assertThat(passwordHashingService.matches("WrongP@ss1!", encodedPassword)).isFalse();
+    }
+
+    @Test
+    void shouldRecordHashingLatency() {
+        // Act
+        String encodedPassword = passwordHashingService.encode("AliceStrongP@ss1!");
+        passwordHashingService.matches("AliceStrongP@ss1!", encodedPassword);
+
+        // Assert
+        assertThat(meterRegistry.get("akkorhotel.password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("akkorhotel.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRequireUpgrade_whenHashUsesLowerWorkFactor() {
+        // Arrange
+        String weakEncodedPassword = new BCryptPasswordEncoder(4).encode("AliceStrongP@ss1!");
+        String encodedPassword = passwordHashingService.encode("AliceStrongP@ss1!");
+
+        // Act & Assert
+        assertThat(passwordHashingService.needsUpgrade(weakEncodedPassword)).isTrue();
+        assertThat(passwordHashingService.needsUpgrade(encodedPassword)).isFalse();
+    }
+
+    @Test
+    void shouldPropagateEncoderError_whenRawPasswordIsNull() {
+        // Act & Assert
+        assertThatThrownBy(() -> passwordHashingService.matches(null, "encodedPassword"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
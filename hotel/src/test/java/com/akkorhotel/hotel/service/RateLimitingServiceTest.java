@@ -0,0 +1,160 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.configuration.RateLimitPolicy;
+import com.akkorhotel.hotel.dao.InMemoryRateLimitStore;
+import com.akkorhotel.hotel.dao.RateLimitStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.akkorhotel.hotel.configuration.RateLimitPolicies.DEFAULT_POLICY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RateLimitingServiceTest {
+
+    private final InMemoryRateLimitStore rateLimitStore = new InMemoryRateLimitStore();
+
+    private final RateLimitingService rateLimitingService = new RateLimitingService(rateLimitStore);
+
+    @Test
+    void shouldAllowRequestsUntilBucketIsEmpty() {
+        // Act
+        int allowedRequests = 0;
+        for (int i = 0; i < 60; i++) {
+            if (rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1")) {
+                allowedRequests++;
+            }
+        }
+
+        // Assert
+        assertThat(allowedRequests).isEqualTo(60);
+        assertThat(rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1")).isFalse();
+        assertThat(rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.2")).isTrue();
+    }
+
+    @Test
+    void shouldKeepClientBlocked_whenBucketHasBeenExhausted() {
+        // Arrange
+        for (int i = 0; i <= 60; i++) {
+            rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1");
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1")).isFalse();
+        }
+    }
+
+    @Test
+    void shouldNotLoseCounts_whenRequestsAreConcurrent() throws InterruptedException {
+        // Arrange
+        int requests = 1000;
+        AtomicInteger allowedRequests = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1")) {
+                    allowedRequests.incrementAndGet();
+                }
+            });
+        }
+
+        // Act
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(allowedRequests.get()).isBetween(60, 61);
+    }
+
+    @Test
+    void shouldEnforceLimitAcrossNodes_whenCountsAreSynchronized() {
+        // Arrange
+        RateLimitingService otherNode = new RateLimitingService(rateLimitStore);
+
+        for (int i = 0; i < 40; i++) {
+            rateLimitingService.tryConsume(DEFAULT_POLICY, "192.168.1.1");
+        }
+        rateLimitingService.synchronizeRequestCounts();
+
+        for (int i = 0; i < 10; i++) {
+            otherNode.tryConsume(DEFAULT_POLICY, "192.168.1.1");
+        }
+
+        // Act
+        otherNode.synchronizeRequestCounts();
+
+        // Assert
+        int allowedRequests = 0;
+        for (int i = 0; i < 20; i++) {
+            if (otherNode.tryConsume(DEFAULT_POLICY, "192.168.1.1")) {
+                allowedRequests++;
+            }
+        }
+
+        assertThat(allowedRequests).isEqualTo(10);
+        assertThat(otherNode.tryConsume(DEFAULT_POLICY, "192.168.1.1")).isFalse();
+    }
+
+    @Test
+    void shouldKeepPendingCounts_whenStoreIsUnavailable() {
+        // Arrange
+        RateLimitStore failingStore = mock(RateLimitStore.class);
+        RateLimitingService node = new RateLimitingService(failingStore);
+
+        when(failingStore.incrementAll(anyLong(), anyMap()))
+                .thenThrow(new IllegalStateException("Store unavailable"))
+                .thenReturn(Map.of("default:192.168.1.1", 5L));
+
+        for (int i = 0; i < 5; i++) {
+            node.tryConsume(DEFAULT_POLICY, "192.168.1.1");
+        }
+
+        // Act
+        node.synchronizeRequestCounts();
+        node.synchronizeRequestCounts();
+
+        // Assert
+        verify(failingStore, times(2)).incrementAll(anyLong(), eq(Map.of("default:192.168.1.1", 5L)));
+    }
+
+    @Test
+    void shouldConsumeTokensAccordingToPolicyCost() {
+        // Arrange
+        RateLimitPolicy uploadPolicy = RateLimitPolicy.builder()
+                .name("upload")
+                .capacity(60)
+                .cost(10)
+                .build();
+
+        // Act
+        int allowedUploads = 0;
+        for (int i = 0; i < 10; i++) {
+            if (rateLimitingService.tryConsume(uploadPolicy, "user:userId")) {
+                allowedUploads++;
+            }
+        }
+
+        // Assert
+        assertThat(allowedUploads).isEqualTo(6);
+        assertThat(rateLimitingService.tryConsume(DEFAULT_POLICY, "user:userId")).isTrue();
+    }
+
+}
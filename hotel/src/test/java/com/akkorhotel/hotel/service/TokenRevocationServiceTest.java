@@ -0,0 +1,122 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.dao.RevokedTokenDao;
+import com.akkorhotel.hotel.model.RevokedToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RevokedTokenDao revokedTokenDao;
+
+    @Test
+    void shouldNotConsiderTokenRevoked_whenTokenIsUnknownOrHasNoId() {
+        // Act & Assert
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isFalse();
+        assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void shouldPersistAndRevokeToken() {
+        // Arrange
+        Date expiresAt = new Date(System.currentTimeMillis() + 60000);
+
+        // Act
+        tokenRevocationService.revoke("tokenId", "userId", expiresAt);
+
+        // Assert
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenDao).save(captor.capture());
+
+        RevokedToken revokedToken = captor.getValue();
+        assertThat(revokedToken.getId()).isEqualTo("tokenId");
+        assertThat(revokedToken.getUserId()).isEqualTo("userId");
+        assertThat(revokedToken.getExpiresAt()).isEqualTo(expiresAt);
+        assertThat(revokedToken.getRevokedAt()).isNotNull();
+
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isTrue();
+        assertThat(tokenRevocationService.isRevoked("otherTokenId")).isFalse();
+    }
+
+    @Test
+    void shouldRevokeToken_whenFirstToClaimIt() {
+        // Arrange
+        Date expiresAt = new Date(System.currentTimeMillis() + 60000);
+
+        // Act
+        boolean revoked = tokenRevocationService.tryRevoke("tokenId", "userId", expiresAt);
+
+        // Assert
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenDao).insert(captor.capture());
+
+        assertThat(revoked).isTrue();
+        assertThat(captor.getValue().getId()).isEqualTo("tokenId");
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isTrue();
+    }
+
+    @Test
+    void shouldReportReuse_whenTokenWasAlreadyRevoked() {
+        // Arrange
+        doThrow(new DuplicateKeyException("E11000 duplicate key error")).when(revokedTokenDao).insert(any(RevokedToken.class));
+
+        // Act
+        boolean revoked = tokenRevocationService.tryRevoke("tokenId", "userId", new Date(System.currentTimeMillis() + 60000));
+
+        // Assert
+        assertThat(revoked).isFalse();
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isTrue();
+    }
+
+    @Test
+    void shouldRevokeTokens_whenRevokedByAnotherInstance() {
+        // Arrange
+        when(revokedTokenDao.findRevokedSince(any(Date.class))).thenReturn(List.of(RevokedToken.builder()
+                .id("tokenId")
+                .userId("userId")
+                .expiresAt(new Date(System.currentTimeMillis() + 60000))
+                .revokedAt(new Date())
+                .build()));
+
+        // Act
+        tokenRevocationService.synchronizeRevokedTokens();
+
+        // Assert
+        verify(revokedTokenDao).findRevokedSince(new Date(-60000));
+        assertThat(tokenRevocationService.isRevoked("tokenId")).isTrue();
+    }
+
+    @Test
+    void shouldForgetExpiredRevokedTokens_whenPurged() {
+        // Arrange
+        tokenRevocationService.revoke("expiredTokenId", "userId", new Date(System.currentTimeMillis() - 1000));
+        tokenRevocationService.revoke("activeTokenId", "userId", new Date(System.currentTimeMillis() + 60000));
+
+        // Act
+        tokenRevocationService.purgeExpiredTokens();
+
+        // Assert
+        assertThat(tokenRevocationService.isRevoked("expiredTokenId")).isFalse();
+        assertThat(tokenRevocationService.isRevoked("activeTokenId")).isTrue();
+    }
+
+}
@@ -15,9 +15,9 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -43,7 +43,7 @@ class UserServiceTest {
     private UserUtils userUtils;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private ImageService imageService;
@@ -51,6 +51,9 @@ class UserServiceTest {
     @Mock
     private ImageUtils imageUtils;
 
+    @Mock
+    private UserTokenVersionService userTokenVersionService;
+
     @Test
     void shouldReturnAuthenticatedUserInformations() {
         // Arrange
@@ -99,14 +102,12 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidPassword(anyString())).thenReturn(false);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(false)
                 .thenReturn(true);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userUtils.sendRegisterConfirmationEmail(any())).thenReturn(null);
 
         // Act
@@ -123,15 +124,13 @@ class UserServiceTest {
                 .profileImageUrl("profileImageUrl")
                 .build();
 
-        InOrder inOrder = inOrder(userUtils, userDao, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, userDao, passwordHashingService);
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(userUtils).isInvalidPassword("newPassword123#!");
-        inOrder.verify(passwordEncoder).matches("newPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).matches("oldPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("newPassword123#!");
+        inOrder.verify(passwordHashingService).matches("newPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).matches("oldPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("newPassword123#!");
         inOrder.verify(userDao).save(expectedUser);
         inOrder.verify(userUtils).sendRegisterConfirmationEmail(expectedUser);
         inOrder.verifyNoMoreInteractions();
@@ -162,7 +161,7 @@ class UserServiceTest {
 
         // Assert
         verifyNoMoreInteractions(userUtils);
-        verifyNoInteractions(userDao, passwordEncoder);
+        verifyNoInteractions(userDao, passwordHashingService);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isEqualTo(singletonMap("errors", "No values provided for update. Please specify at least one field (email, username, or new password)."));
@@ -185,7 +184,6 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidUsername(anyString())).thenReturn(true);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Invalid username: Must be 3-11 characters and cannot contain spaces.");
 
         // Act
@@ -194,11 +192,10 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidUsername("invalidUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("invalidUsername");
         inOrder.verify(userUtils).getErrorsAsString(List.of("Invalid username: Must be 3-11 characters and cannot contain spaces."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getUsername()).isEqualTo("invalidUsername");
 
@@ -222,8 +219,12 @@ class UserServiceTest {
                 .profileImageUrl("profileImageUrl")
                 .build();
 
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: unique_username");
+
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(true);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(true);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Username already taken: Please choose a different one.");
 
         // Act
@@ -232,11 +233,13 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidUsername("alreadyUsedUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("alreadyUsedUsername");
+        inOrder.verify(userDao).save(authenticatedUser);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
         inOrder.verify(userUtils).getErrorsAsString(List.of("Username already taken: Please choose a different one."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getUsername()).isEqualTo("alreadyUsedUsername");
 
@@ -244,6 +247,50 @@ class UserServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("errors", "Username already taken: Please choose a different one."));
     }
 
+    @Test
+    void shouldReturnGenericError_whenViolatedIndexIsUnknown() {
+        // Arrange
+        UpdateUserRequest userRequest = new UpdateUserRequest();
+        userRequest.setUsername("alreadyUsedUsername");
+
+        User authenticatedUser = User.builder()
+                .id("id")
+                .username("oldUsername")
+                .email("old.email@gmail.com")
+                .password("oldPassword123#!")
+                .role(UserRole.USER)
+                .isValidEmail(true)
+                .profileImageUrl("profileImageUrl")
+                .build();
+
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: _id_");
+
+        when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userUtils.getErrorsAsString(anyList())).thenReturn("Username or email already in use.");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = userService.updateUser(userRequest, authenticatedUser);
+
+        // Assert
+        InOrder inOrder = inOrder(userUtils, userDao);
+        inOrder.verify(userUtils).isInvalidUsername("alreadyUsedUsername");
+        inOrder.verify(userDao).save(authenticatedUser);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
+        inOrder.verify(userUtils).getErrorsAsString(List.of("Username or email already in use."));
+        inOrder.verifyNoMoreInteractions();
+
+        verifyNoInteractions(passwordHashingService);
+
+        assertThat(authenticatedUser.getUsername()).isEqualTo("alreadyUsedUsername");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(singletonMap("errors", "Username or email already in use."));
+    }
+
     @Test
     void shouldReturnBadRequest_whenUsernameIsSameAsCurrent() {
         // Arrange
@@ -261,7 +308,6 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Username cannot be the same as the current one.");
 
         // Act
@@ -270,11 +316,10 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidUsername("oldUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("oldUsername");
         inOrder.verify(userUtils).getErrorsAsString(List.of("Username cannot be the same as the current one."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getUsername()).isEqualTo("oldUsername");
 
@@ -299,7 +344,6 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidEmail(anyString())).thenReturn(true);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Invalid email format.");
 
         // Act
@@ -308,11 +352,10 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidEmail("invalidEmail");
-        inOrder.verify(userDao).isEmailAlreadyUsed("invalidEmail");
         inOrder.verify(userUtils).getErrorsAsString(List.of("Invalid email format."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getIsValidEmail()).isFalse();
         assertThat(authenticatedUser.getEmail()).isEqualTo("invalidEmail");
@@ -337,8 +380,12 @@ class UserServiceTest {
                 .profileImageUrl("profileImageUrl")
                 .build();
 
+        DuplicateKeyException duplicateKeyException = new DuplicateKeyException("E11000 duplicate key error index: unique_email");
+
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(true);
+        doThrow(duplicateKeyException).when(userDao).save(any(User.class));
+        when(userDao.isDuplicateUsername(any(DuplicateKeyException.class))).thenReturn(false);
+        when(userDao.isDuplicateEmail(any(DuplicateKeyException.class))).thenReturn(true);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("This email is already used.");
 
         // Act
@@ -347,11 +394,13 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidEmail("alreadyUsedEmail");
-        inOrder.verify(userDao).isEmailAlreadyUsed("alreadyUsedEmail");
+        inOrder.verify(userDao).save(authenticatedUser);
+        inOrder.verify(userDao).isDuplicateUsername(duplicateKeyException);
+        inOrder.verify(userDao).isDuplicateEmail(duplicateKeyException);
         inOrder.verify(userUtils).getErrorsAsString(List.of("This email is already used."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getIsValidEmail()).isFalse();
         assertThat(authenticatedUser.getEmail()).isEqualTo("alreadyUsedEmail");
@@ -377,7 +426,6 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The new email address must be different from the current one.");
 
         // Act
@@ -386,11 +434,10 @@ class UserServiceTest {
         // Assert
         InOrder inOrder = inOrder(userUtils, userDao);
         inOrder.verify(userUtils).isInvalidEmail("old.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("old.email@gmail.com");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The new email address must be different from the current one."));
         inOrder.verifyNoMoreInteractions();
 
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashingService);
 
         assertThat(authenticatedUser.getIsValidEmail()).isFalse();
         assertThat(authenticatedUser.getEmail()).isEqualTo("old.email@gmail.com");
@@ -417,21 +464,21 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidPassword(anyString())).thenReturn(true);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(false)
                 .thenReturn(true);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userUtils.getErrorsAsString(anyList())).thenReturn("The new password does not meet the required criteria.");
 
         // Act
         ResponseEntity<Map<String, String>> response = userService.updateUser(userRequest, authenticatedUser);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, passwordHashingService);
         inOrder.verify(userUtils).isInvalidPassword("invalidPassword");
-        inOrder.verify(passwordEncoder).matches("invalidPassword","oldPassword123#!");
-        inOrder.verify(passwordEncoder).matches("oldPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("invalidPassword");
+        inOrder.verify(passwordHashingService).matches("invalidPassword","oldPassword123#!");
+        inOrder.verify(passwordHashingService).matches("oldPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("invalidPassword");
         inOrder.verify(userUtils).getErrorsAsString(List.of("The new password does not meet the required criteria."));
         inOrder.verifyNoMoreInteractions();
 
@@ -461,20 +508,20 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidPassword(anyString())).thenReturn(false);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(true)
                 .thenReturn(true);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userUtils.getErrorsAsString(anyList())).thenReturn("New password must be different from the old password.");
 
         // Act
         ResponseEntity<Map<String, String>> response = userService.updateUser(userRequest, authenticatedUser);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, passwordHashingService);
         inOrder.verify(userUtils).isInvalidPassword("oldPassword123#!");
-        inOrder.verify(passwordEncoder, times(2)).matches("oldPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("oldPassword123#!");
+        inOrder.verify(passwordHashingService, times(2)).matches("oldPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("oldPassword123#!");
         inOrder.verify(userUtils).getErrorsAsString(List.of("New password must be different from the old password."));
         inOrder.verifyNoMoreInteractions();
 
@@ -504,21 +551,21 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidPassword(anyString())).thenReturn(false);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(false)
                 .thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userUtils.getErrorsAsString(anyList())).thenReturn("Old password is incorrect.");
 
         // Act
         ResponseEntity<Map<String, String>> response = userService.updateUser(userRequest, authenticatedUser);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, passwordHashingService);
         inOrder.verify(userUtils).isInvalidPassword("newPassword123#!");
-        inOrder.verify(passwordEncoder).matches("newPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).matches("incorrectPassword","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("newPassword123#!");
+        inOrder.verify(passwordHashingService).matches("newPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).matches("incorrectPassword","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("newPassword123#!");
         inOrder.verify(userUtils).getErrorsAsString(List.of("Old password is incorrect."));
         inOrder.verifyNoMoreInteractions();
 
@@ -550,14 +597,12 @@ class UserServiceTest {
                 .build();
 
         when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(false);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidPassword(anyString())).thenReturn(false);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(false)
                 .thenReturn(true);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userUtils.sendRegisterConfirmationEmail(any())).thenReturn("Error while sending register confirmation email");
 
         // Act
@@ -574,15 +619,13 @@ class UserServiceTest {
                 .profileImageUrl("profileImageUrl")
                 .build();
 
-        InOrder inOrder = inOrder(userUtils, userDao, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, userDao, passwordHashingService);
         inOrder.verify(userUtils).isInvalidUsername("newUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("newUsername");
         inOrder.verify(userUtils).isInvalidEmail("new.email@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("new.email@gmail.com");
         inOrder.verify(userUtils).isInvalidPassword("newPassword123#!");
-        inOrder.verify(passwordEncoder).matches("newPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).matches("oldPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("newPassword123#!");
+        inOrder.verify(passwordHashingService).matches("newPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).matches("oldPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("newPassword123#!");
         inOrder.verify(userDao).save(expectedUser);
         inOrder.verify(userUtils).sendRegisterConfirmationEmail(expectedUser);
         inOrder.verifyNoMoreInteractions();
@@ -610,35 +653,31 @@ class UserServiceTest {
                 .profileImageUrl("profileImageUrl")
                 .build();
 
-        when(userUtils.isInvalidUsername(anyString())).thenReturn(false);
-        when(userDao.isUsernameAlreadyUsed(anyString())).thenReturn(true);
+        when(userUtils.isInvalidUsername(anyString())).thenReturn(true);
         when(userUtils.isInvalidEmail(anyString())).thenReturn(true);
-        when(userDao.isEmailAlreadyUsed(anyString())).thenReturn(false);
         when(userUtils.isInvalidPassword(anyString())).thenReturn(true);
-        when(passwordEncoder.matches(anyString(), anyString()))
+        when(passwordHashingService.matches(anyString(), anyString()))
                 .thenReturn(false)
                 .thenReturn(true);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userUtils.getErrorsAsString(anyList())).thenReturn("Username already taken: Please choose a different one. | Invalid email format. | The new password does not meet the required criteria.");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
+        when(userUtils.getErrorsAsString(anyList())).thenReturn("Invalid username: Must be 3-11 characters and cannot contain spaces. | Invalid email format. | The new password does not meet the required criteria.");
 
         // Act
         ResponseEntity<Map<String, String>> response = userService.updateUser(userRequest, authenticatedUser);
 
         // Assert
-        InOrder inOrder = inOrder(userUtils, userDao, passwordEncoder);
+        InOrder inOrder = inOrder(userUtils, userDao, passwordHashingService);
         inOrder.verify(userUtils).isInvalidUsername("alreadyUsedUsername");
-        inOrder.verify(userDao).isUsernameAlreadyUsed("alreadyUsedUsername");
         inOrder.verify(userUtils).isInvalidEmail("not_valid@gmail.com");
-        inOrder.verify(userDao).isEmailAlreadyUsed("not_valid@gmail.com");
         inOrder.verify(userUtils).isInvalidPassword("notValidPassword");
-        inOrder.verify(passwordEncoder).matches("notValidPassword","oldPassword123#!");
-        inOrder.verify(passwordEncoder).matches("oldPassword123#!","oldPassword123#!");
-        inOrder.verify(passwordEncoder).encode("notValidPassword");
-        inOrder.verify(userUtils).getErrorsAsString(List.of("Username already taken: Please choose a different one.", "Invalid email format.", "The new password does not meet the required criteria."));
+        inOrder.verify(passwordHashingService).matches("notValidPassword","oldPassword123#!");
+        inOrder.verify(passwordHashingService).matches("oldPassword123#!","oldPassword123#!");
+        inOrder.verify(passwordHashingService).encode("notValidPassword");
+        inOrder.verify(userUtils).getErrorsAsString(List.of("Invalid username: Must be 3-11 characters and cannot contain spaces.", "Invalid email format.", "The new password does not meet the required criteria."));
         inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).isEqualTo(singletonMap("errors", "Username already taken: Please choose a different one. | Invalid email format. | The new password does not meet the required criteria."));
+        assertThat(response.getBody()).isEqualTo(singletonMap("errors", "Invalid username: Must be 3-11 characters and cannot contain spaces. | Invalid email format. | The new password does not meet the required criteria."));
     }
 
     @Test
@@ -647,8 +686,10 @@ class UserServiceTest {
         ResponseEntity<Map<String, String>> response = userService.deleteUser("authenticatedUserId");
 
         // Assert
-        verify(userDao).delete("authenticatedUserId");
-        verifyNoMoreInteractions(userDao);
+        InOrder inOrder = inOrder(userDao, userTokenVersionService);
+        inOrder.verify(userDao).delete("authenticatedUserId");
+        inOrder.verify(userTokenVersionService).revokeTokens("authenticatedUserId");
+        inOrder.verifyNoMoreInteractions();
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(singletonMap("message", "User deleted successfully"));
@@ -682,6 +723,7 @@ class UserServiceTest {
         inOrder.verify(file).isEmpty();
         inOrder.verify(file).getOriginalFilename();
         inOrder.verify(imageService).getImageExtension("profile.jpg");
+        inOrder.verify(imageService).validateUploadedImage(file, ImageExtension.jpg);
         inOrder.verify(imageUtils).uploadImage(file);
         inOrder.verify(imageService).saveNewImage(
                 ImageCategory.USER,
@@ -789,6 +831,7 @@ class UserServiceTest {
         inOrder.verify(file).isEmpty();
         inOrder.verify(file).getOriginalFilename();
         inOrder.verify(imageService).getImageExtension("profile.png");
+        inOrder.verify(imageService).validateUploadedImage(file, ImageExtension.png);
         inOrder.verify(imageUtils).uploadImage(file);
         inOrder.verifyNoMoreInteractions();
 
@@ -796,4 +839,34 @@ class UserServiceTest {
         assertThat(response.getBody()).isEqualTo(singletonMap("error", "Failed to upload the image"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldReturnBadRequest_whenImageContentIsInvalid() throws IOException {
+        // Arrange
+        User authenticatedUser = User.builder()
+                .id("userId")
+                .username("username")
+                .build();
+
+        MultipartFile file = mock(MultipartFile.class);
+
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("profile.png");
+        when(imageService.getImageExtension(anyString())).thenReturn(ImageExtension.png);
+        when(imageService.validateUploadedImage(any(), any())).thenReturn("Picture content does not match its png extension");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = userService.uploadUserProfileImage(authenticatedUser, file);
+
+        // Assert
+        InOrder inOrder = inOrder(imageService);
+        inOrder.verify(imageService).getImageExtension("profile.png");
+        inOrder.verify(imageService).validateUploadedImage(file, ImageExtension.png);
+        inOrder.verifyNoMoreInteractions();
+
+        verifyNoInteractions(imageUtils);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(singletonMap("error", "Picture content does not match its png extension"));
+    }
+
+}
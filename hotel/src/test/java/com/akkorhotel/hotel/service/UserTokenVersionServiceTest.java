@@ -0,0 +1,103 @@
+package com.akkorhotel.hotel.service;
+
+import com.akkorhotel.hotel.dao.UserTokenVersionDao;
+import com.akkorhotel.hotel.model.UserTokenVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserTokenVersionServiceTest {
+
+    @InjectMocks
+    private UserTokenVersionService userTokenVersionService;
+
+    @Mock
+    private UserTokenVersionDao userTokenVersionDao;
+
+    @Test
+    void shouldAcceptAnyTokenVersion_whenUserVersionIsUnknown() {
+        // Act
+        boolean isValid = userTokenVersionService.isTokenVersionValid("userId", 0L);
+
+        // Assert
+        assertThat(isValid).isTrue();
+    }
+
+    @Test
+    void shouldRejectOlderTokenVersion_whenVersionIsIncremented() {
+        // Arrange
+        when(userTokenVersionDao.incrementVersion(anyString())).thenReturn(UserTokenVersion.builder()
+                .id("userId")
+                .version(1L)
+                .updatedAt(new Date())
+                .build());
+
+        // Act
+        userTokenVersionService.incrementVersion("userId");
+
+        // Assert
+        verify(userTokenVersionDao).incrementVersion("userId");
+        assertThat(userTokenVersionService.isTokenVersionValid("userId", 0L)).isFalse();
+        assertThat(userTokenVersionService.isTokenVersionValid("userId", 1L)).isTrue();
+        assertThat(userTokenVersionService.isTokenVersionValid("otherUserId", 0L)).isTrue();
+    }
+
+    @Test
+    void shouldRejectEveryTokenVersion_whenTokensAreRevoked() {
+        // Act
+        userTokenVersionService.revokeTokens("userId");
+
+        // Assert
+        verify(userTokenVersionDao).revoke("userId");
+        assertThat(userTokenVersionService.isTokenVersionValid("userId", 42L)).isFalse();
+    }
+
+    @Test
+    void shouldLoadCurrentVersionFromDatabase() {
+        // Arrange
+        when(userTokenVersionDao.findById(anyString())).thenReturn(Optional.of(UserTokenVersion.builder()
+                .id("userId")
+                .version(3L)
+                .updatedAt(new Date())
+                .build()));
+
+        // Act
+        long version = userTokenVersionService.loadCurrentVersion("userId");
+
+        // Assert
+        verify(userTokenVersionDao).findById("userId");
+        assertThat(version).isEqualTo(3L);
+        assertThat(userTokenVersionService.isTokenVersionValid("userId", 2L)).isFalse();
+    }
+
+    @Test
+    void shouldApplyVersionsUpdatedOnOtherNodes_whenSynchronizing() {
+        // Arrange
+        when(userTokenVersionDao.findUpdatedSince(any(Date.class))).thenReturn(List.of(
+                UserTokenVersion.builder().id("demotedUserId").version(2L).updatedAt(new Date()).build(),
+                UserTokenVersion.builder().id("deletedUserId").version(UserTokenVersion.REVOKED_VERSION).updatedAt(new Date()).build()
+        ));
+
+        // Act
+        userTokenVersionService.synchronizeTokenVersions();
+
+        // Assert
+        assertThat(userTokenVersionService.isTokenVersionValid("demotedUserId", 1L)).isFalse();
+        assertThat(userTokenVersionService.isTokenVersionValid("demotedUserId", 2L)).isTrue();
+        assertThat(userTokenVersionService.isTokenVersionValid("deletedUserId", 0L)).isFalse();
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.akkorhotel.hotel.utils;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.model.ImageExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageInspectorTest {
+
+    private ImageInspector imageInspector;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setImageMaxSize(100_000);
+        envConfiguration.setImageMaxDimension(500);
+
+        imageInspector = new ImageInspector(envConfiguration);
+    }
+
+    @Test
+    void shouldAcceptJpegAndPng_withinLimits() throws IOException {
+        // Arrange
+        MockMultipartFile jpeg = buildFile("picture.jpeg", encode("jpg", 400, 300));
+        MockMultipartFile png = buildFile("picture.png", encode("png", 500, 20));
+
+        // Act & Assert
+        assertThat(imageInspector.inspect(jpeg, ImageExtension.jpeg)).isNull();
+        assertThat(imageInspector.inspect(jpeg, ImageExtension.jpg)).isNull();
+        assertThat(imageInspector.inspect(png, ImageExtension.png)).isNull();
+    }
+
+    @Test
+    void shouldReadWebpHeader() {
+        // Arrange
+        byte[] webp = new byte[30];
+        System.arraycopy("RIFF".getBytes(StandardCharsets.US_ASCII), 0, webp, 0, 4);
+        System.arraycopy("WEBPVP8X".getBytes(StandardCharsets.US_ASCII), 0, webp, 8, 8);
+        webp[24] = (byte) 199;
+        webp[27] = (byte) 99;
+
+        MockMultipartFile webpFile = buildFile("picture.webp", webp);
+
+        // Act & Assert
+        assertThat(imageInspector.inspect(webpFile, ImageExtension.webp)).isNull();
+    }
+
+    @Test
+    void shouldRejectSvgPicture() {
+        // Arrange
+        MockMultipartFile svgFile = buildFile("picture.svg", "\n<?xml version=\"1.0\"?><svg xmlns=\"http://www.w3.org/2000/svg\" onload=\"alert(1)\"/>".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile disguisedSvgFile = buildFile("picture.png", "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThat(imageInspector.inspect(svgFile, ImageExtension.svg)).isEqualTo("SVG pictures are not supported");
+        assertThat(imageInspector.inspect(disguisedSvgFile, ImageExtension.png)).isEqualTo("SVG pictures are not supported");
+    }
+
+    @Test
+    void shouldRejectMislabelledPicture() throws IOException {
+        // Arrange
+        MockMultipartFile file = buildFile("picture.jpg", encode("png", 10, 10));
+
+        // Act
+        String error = imageInspector.inspect(file, ImageExtension.jpg);
+
+        // Assert
+        assertThat(error).isEqualTo("Picture content does not match its jpg extension");
+    }
+
+    @Test
+    void shouldRejectUnrecognizedContent() {
+        // Arrange
+        MockMultipartFile file = buildFile("picture.png", "not an image".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        String error = imageInspector.inspect(file, ImageExtension.png);
+
+        // Assert
+        assertThat(error).isEqualTo("Unrecognized picture content");
+    }
+
+    @Test
+    void shouldRejectTruncatedJpeg() throws IOException {
+        // Arrange
+        byte[] jpeg = encode("jpg", 100, 100);
+        MockMultipartFile file = buildFile("picture.jpg", Arrays.copyOf(jpeg, 4));
+
+        // Act
+        String error = imageInspector.inspect(file, ImageExtension.jpg);
+
+        // Assert
+        assertThat(error).isEqualTo("Corrupt picture");
+    }
+
+    @Test
+    void shouldRejectOversizedDimensions() throws IOException {
+        // Arrange
+        MockMultipartFile file = buildFile("picture.jpg", encode("jpg", 501, 10));
+
+        // Act
+        String error = imageInspector.inspect(file, ImageExtension.jpg);
+
+        // Assert
+        assertThat(error).isEqualTo("Picture dimensions exceed 500x500 pixels");
+    }
+
+    @Test
+    void shouldRejectOversizedFile() {
+        // Arrange
+        MockMultipartFile file = buildFile("picture.png", new byte[100_001]);
+
+        // Act
+        String error = imageInspector.inspect(file, ImageExtension.png);
+
+        // Assert
+        assertThat(error).isEqualTo("Picture exceeds the maximum size of 100000 bytes");
+    }
+
+    private static MockMultipartFile buildFile(String filename, byte[] content) {
+        return new MockMultipartFile("file", filename, "application/octet-stream", content);
+    }
+
+    private static byte[] encode(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.akkorhotel.hotel.utils;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageUtilsTest {
+
+    private ImageUtils imageUtils;
+    private ImageStorage imageStorage;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setImageUploadConcurrency(2);
+        envConfiguration.setImageUploadTimeout(500);
+
+        imageStorage = mock(ImageStorage.class);
+        imageUtils = spy(new ImageUtils(imageStorage, envConfiguration));
+    }
+
+    @Test
+    void shouldStreamImageToStorage() throws IOException {
+        // Arrange
+        MultipartFile file = buildFile("picture");
+
+        when(imageStorage.store(any(ReadableByteChannel.class), eq("picture.jpg"))).thenAnswer(invocation -> {
+            ReadableByteChannel content = invocation.getArgument(0);
+            assertThat(Channels.newInputStream(content).readAllBytes()).containsExactly(1, 2, 3);
+            return "https://picture.jpg";
+        });
+
+        // Act
+        String url = imageUtils.uploadImage(file);
+
+        // Assert
+        assertThat(url).isEqualTo("https://picture.jpg");
+        verify(imageStorage, times(1)).store(any(ReadableByteChannel.class), eq("picture.jpg"));
+    }
+
+    @Test
+    void shouldHashImageContent() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("picture", "picture.jpg", MediaType.IMAGE_JPEG_VALUE, "abc".getBytes());
+
+        // Act
+        String contentHash = imageUtils.hashImage(file);
+
+        // Assert
+        assertThat(contentHash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        verifyNoInteractions(imageStorage);
+    }
+
+    @Test
+    void shouldUploadImagesConcurrently_withinConcurrencyCap() throws IOException {
+        // Arrange
+        List<MultipartFile> files = List.of(buildFile("1"), buildFile("2"), buildFile("3"), buildFile("4"), buildFile("5"));
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return "https://" + ((MultipartFile) invocation.getArgument(0)).getOriginalFilename();
+        }).when(imageUtils).uploadImage(any());
+
+        // Act
+        List<String> urls = imageUtils.uploadImages(files);
+
+        // Assert
+        assertThat(urls).containsExactly("https://1.jpg", "https://2.jpg", "https://3.jpg", "https://4.jpg", "https://5.jpg");
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void shouldReturnNull_forFailedAndTimedOutUploads() throws IOException {
+        // Arrange
+        MultipartFile uploaded = buildFile("uploaded");
+        MultipartFile failing = buildFile("failing");
+        MultipartFile slow = buildFile("slow");
+
+        doReturn("https://uploaded.jpg").when(imageUtils).uploadImage(uploaded);
+        doThrow(new IOException("Upload error")).when(imageUtils).uploadImage(failing);
+        doAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return "https://slow.jpg";
+        }).when(imageUtils).uploadImage(slow);
+
+        // Act
+        List<String> urls = imageUtils.uploadImages(List.of(uploaded, failing, slow));
+
+        // Assert
+        assertThat(urls).containsExactly("https://uploaded.jpg", null, null);
+    }
+
+    @Test
+    void shouldDeleteUpload_whenItCompletesAfterTheDeadline() throws IOException {
+        // Arrange
+        MultipartFile late = buildFile("late");
+
+        doAnswer(invocation -> {
+            long deadline = System.nanoTime() + 800_000_000L;
+            while (System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ignored) {
+                }
+            }
+            return "https://late.jpg";
+        }).when(imageUtils).uploadImage(late);
+
+        // Act
+        List<String> urls = imageUtils.uploadImages(List.of(late));
+
+        // Assert
+        assertThat(urls).containsExactly((String) null);
+        verify(imageStorage).delete("https://late.jpg");
+    }
+
+    private MultipartFile buildFile(String name) {
+        return new MockMultipartFile(name, name + ".jpg", MediaType.IMAGE_JPEG_VALUE, new byte[]{1, 2, 3});
+    }
+
+}
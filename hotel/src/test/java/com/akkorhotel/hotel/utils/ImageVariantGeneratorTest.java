@@ -0,0 +1,141 @@
+package com.akkorhotel.hotel.utils;
+
+import com.akkorhotel.hotel.configuration.EnvConfiguration;
+import com.akkorhotel.hotel.dao.ImageStorage;
+import com.akkorhotel.hotel.model.ImageVariant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ImageVariantGeneratorTest {
+
+    private ImageVariantGenerator imageVariantGenerator;
+    private ImageStorage imageStorage;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    @BeforeEach
+    void setUp() {
+        EnvConfiguration envConfiguration = new EnvConfiguration();
+        envConfiguration.setImageVariantWorkers(2);
+        envConfiguration.setImageVariantQueueCapacity(4);
+        envConfiguration.setImageVariantTimeout(5000);
+        envConfiguration.setImageUploadSpoolDirectory(spoolDirectory.toString());
+
+        imageStorage = mock(ImageStorage.class);
+        imageVariantGenerator = new ImageVariantGenerator(imageStorage, envConfiguration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantGenerator.shutdown();
+    }
+
+    @Test
+    void shouldGenerateVariantsNarrowerThanOriginal() throws IOException {
+        // Arrange
+        MockMultipartFile source = new MockMultipartFile("file", "picture.png", MediaType.IMAGE_PNG_VALUE, encode(1200, 600));
+        List<BufferedImage> storedImages = new ArrayList<>();
+
+        when(imageStorage.store(any(ReadableByteChannel.class), anyString())).thenAnswer(invocation -> {
+            ReadableByteChannel content = invocation.getArgument(0);
+            storedImages.add(ImageIO.read(Channels.newInputStream(content)));
+            return "https://" + invocation.getArgument(1);
+        });
+
+        // Act
+        List<Map<ImageVariant, String>> variants = imageVariantGenerator.generateVariants(List.of(source)).join();
+
+        // Assert
+        assertThat(variants).hasSize(1);
+        assertThat(variants.getFirst()).containsOnlyKeys(ImageVariant.MEDIUM, ImageVariant.THUMBNAIL);
+        assertThat(variants.getFirst().get(ImageVariant.MEDIUM)).startsWith("https://picture-medium.");
+        assertThat(variants.getFirst().get(ImageVariant.THUMBNAIL)).startsWith("https://picture-thumbnail.");
+
+        assertThat(storedImages).extracting(BufferedImage::getWidth).containsExactly(960, 320);
+        assertThat(storedImages).extracting(BufferedImage::getHeight).containsExactly(480, 160);
+    }
+
+    @Test
+    void shouldReturnNoVariants_whenSourceCannotBeDecoded() throws IOException {
+        // Arrange
+        MockMultipartFile source = new MockMultipartFile("file", "picture.svg", "image/svg+xml", "<svg/>".getBytes());
+
+        // Act
+        List<Map<ImageVariant, String>> variants = imageVariantGenerator.generateVariants(List.of(source)).join();
+
+        // Assert
+        assertThat(variants).containsExactly(Map.of());
+        verifyNoInteractions(imageStorage);
+    }
+
+    @Test
+    void shouldReturnNoVariants_whenStorageFails() throws IOException {
+        // Arrange
+        MockMultipartFile source = new MockMultipartFile("file", "picture.png", MediaType.IMAGE_PNG_VALUE, encode(400, 200));
+
+        when(imageStorage.store(any(ReadableByteChannel.class), anyString())).thenThrow(new IOException("Storage error"));
+
+        // Act
+        List<Map<ImageVariant, String>> variants = imageVariantGenerator.generateVariants(List.of(source)).join();
+
+        // Assert
+        assertThat(variants).containsExactly(Map.of());
+    }
+
+    @Test
+    void shouldReturnBeforeVariantsAreGenerated_andKeepSourceUntilDone() throws IOException {
+        // Arrange
+        MockMultipartFile source = new MockMultipartFile("file", "picture.png", MediaType.IMAGE_PNG_VALUE, encode(400, 200));
+        CountDownLatch storageBlocked = new CountDownLatch(1);
+
+        when(imageStorage.store(any(ReadableByteChannel.class), anyString())).thenAnswer(invocation -> {
+            storageBlocked.await();
+            return "https://" + invocation.getArgument(1);
+        });
+
+        // Act
+        CompletableFuture<List<Map<ImageVariant, String>>> variants = imageVariantGenerator.generateVariants(List.of(source));
+
+        // Assert
+        assertThat(variants).isNotDone();
+
+        storageBlocked.countDown();
+        assertThat(variants.join().getFirst()).containsOnlyKeys(ImageVariant.THUMBNAIL);
+        try (Stream<Path> spooledFiles = Files.list(spoolDirectory)) {
+            assertThat(spooledFiles).isEmpty();
+        }
+    }
+
+    private static byte[] encode(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.akkorhotel.hotel.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplatesTest {
+
+    private final MailTemplates mailTemplates = new MailTemplates();
+
+    @Test
+    void shouldRenderTemplate_withEscapedAndRawVariables() {
+        // Arrange
+        MailTemplates.CompiledTemplate template = MailTemplates.parse("<p>{{ name }}</p><table>{{{rows}}}</table>{{missing}}");
+
+        // Act
+        String rendered = template.render(Map.of(
+                "name", "<Alice & Bob>",
+                "rows", "<tr><td>1</td></tr>"));
+
+        // Assert
+        assertThat(rendered).isEqualTo("<p>&lt;Alice &amp; Bob&gt;</p><table><tr><td>1</td></tr></table>");
+    }
+
+    @Test
+    void shouldRenderClasspathTemplate() {
+        // Act
+        String rendered = mailTemplates.render("admin-digest-row", Map.of(
+                "hotelName", "Akkor",
+                "bookingCount", "2",
+                "guestCount", "5"));
+
+        // Assert
+        assertThat(rendered).contains("<tr><td>Akkor</td><td>2</td><td>5</td></tr>");
+    }
+
+    @Test
+    void shouldThrowException_whenTemplateDoesNotExist() {
+        // Act & Assert
+        assertThatThrownBy(() -> mailTemplates.render("unknown", Map.of()))
+                .hasMessageContaining("Unable to load mail template unknown");
+    }
+
+}
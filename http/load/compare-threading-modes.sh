@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# Runs the same load against two instances of the API, one started with
+# VIRTUAL_THREADS_ENABLED=false and one with VIRTUAL_THREADS_ENABLED=true,
+# then prints throughput, latency percentiles and thread counts for both.
+# Start both instances with RATE_LIMIT_ENABLED=false: the whole run comes from a
+# single client, so the rate limiter would otherwise answer most requests with
+# 429 and the comparison would measure the limiter instead of the threading mode.
+# The script fails if any request gets a non-2xx response.
+#
+# Usage: compare-threading-modes.sh <platform-url> <virtual-url> [requests] [concurrency]
+# Requires oha (https://github.com/hatoo/oha) and jq. The management port of
+# each instance is expected on the application port + 1 (MANAGEMENT_PORT).
+
+set -euo pipefail
+
+PLATFORM_URL=${1:?platform-thread instance URL}
+VIRTUAL_URL=${2:?virtual-thread instance URL}
+REQUESTS=${3:-20000}
+CONCURRENCY=${4:-400}
+
+BODY='{"page":0,"pageSize":10,"filter":"PRICE_LOW_TO_HIGH","filters":{"oneStar":false,"twoStars":false,"threeStars":false,"fourStars":true,"fiveStars":true,"hotelAmenities":["WIFI"],"minPrice":0,"maxPrice":2000,"guests":2,"bedrooms":1,"city":"Lille"}}'
+
+management_url() {
+  local url=$1
+  local port=${url##*:}
+  echo "${url%:*}:$((port + 1))"
+}
+
+metric() {
+  curl -sf "$(management_url "$1")/actuator/metrics/$2" | jq -r '.measurements[0].value // "n/a"' 2>/dev/null || echo "n/a"
+}
+
+run() {
+  local mode=$1
+  local url=$2
+
+  oha --no-tui -j -n "$REQUESTS" -c "$CONCURRENCY" -m POST \
+      -H 'Content-Type: application/json' -d "$BODY" "$url/hotel" > "/tmp/akkorhotel-load-$mode.json"
+
+  jq -r --arg mode "$mode" \
+     --arg threads "$(metric "$url" jvm.threads.peak)" \
+     --arg pinned "$(metric "$url" akkorhotel.virtual.threads.pinned)" \
+     '[$mode,
+       (.summary.requestsPerSec | floor),
+       (.latencyPercentiles.p50 * 1000 | floor),
+       (.latencyPercentiles.p99 * 1000 | floor),
+       (.statusCodeDistribution | to_entries | map("\(.key)=\(.value)") | join(" ")),
+       $threads,
+       $pinned] | @tsv' "/tmp/akkorhotel-load-$mode.json"
+
+  local failed
+  failed=$(jq '[.statusCodeDistribution | to_entries[] | select(.key | test("^2") | not) | .value] | add // 0' "/tmp/akkorhotel-load-$mode.json")
+  if [ "$failed" -ne 0 ]; then
+    echo "$mode: $failed non-2xx responses, is RATE_LIMIT_ENABLED=false set on $url?" >&2
+    status=1
+  fi
+}
+
+status=0
+
+printf 'mode\treq/s\tp50 ms\tp99 ms\tstatus\tpeak threads\tpinned\n'
+run platform "$PLATFORM_URL"
+run virtual "$VIRTUAL_URL"
+exit "$status"